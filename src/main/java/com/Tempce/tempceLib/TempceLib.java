@@ -28,6 +28,10 @@ public final class TempceLib extends JavaPlugin {
   @Override
   public void onDisable() {
     // Plugin shutdown logic
+    if (commandManager != null) {
+      commandManager.shutdown();
+    }
+    
     getLogger().info("TempceLibが無効化されました！");
   }
 
@@ -1,8 +1,14 @@
 package com.Tempce.tempceLib.api;
 
 import com.Tempce.tempceLib.TempceLib;
+import com.Tempce.tempceLib.command.completer.CompletionSessionCache;
+import com.Tempce.tempceLib.command.cooldown.CooldownManager;
 import com.Tempce.tempceLib.command.data.CommandData;
+import com.Tempce.tempceLib.command.executor.CommandMetrics;
 import com.Tempce.tempceLib.command.manager.CommandManager;
+import com.Tempce.tempceLib.command.suggestion.SuggestionProvider;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 
 import java.util.Map;
 
@@ -64,6 +70,139 @@ public class CommandAPI {
         return getCommandManager().getSubCommandCount();
     }
     
+    /**
+     * コマンドのクールダウンの残り時間を取得する
+     * @param sender コマンド送信者
+     * @param commandName コマンド名またはエイリアス
+     * @return 残り時間（ミリ秒、クールダウン中でない場合は0）
+     */
+    public static long getCooldownRemaining(CommandSender sender, String commandName) {
+        return getCooldownRemaining(sender, commandName, "");
+    }
+    
+    /**
+     * サブコマンドのクールダウンの残り時間を取得する
+     * @param sender コマンド送信者
+     * @param commandName コマンド名またはエイリアス
+     * @param subCommandPath サブコマンドのパス（例: "config.reload"）
+     * @return 残り時間（ミリ秒、クールダウン中でない場合は0）
+     */
+    public static long getCooldownRemaining(CommandSender sender, String commandName, String subCommandPath) {
+        CooldownManager cooldownManager = getCommandManager().getCooldownManager();
+        int commandId = findCommandId(commandName, subCommandPath);
+        return cooldownManager.getRemaining(cooldownManager.getSenderId(sender), commandId);
+    }
+    
+    /**
+     * コマンドのクールダウンを解除する
+     * @param sender コマンド送信者
+     * @param commandName コマンド名またはエイリアス
+     */
+    public static void resetCooldown(CommandSender sender, String commandName) {
+        resetCooldown(sender, commandName, "");
+    }
+    
+    /**
+     * サブコマンドのクールダウンを解除する
+     * @param sender コマンド送信者
+     * @param commandName コマンド名またはエイリアス
+     * @param subCommandPath サブコマンドのパス（例: "config.reload"）
+     */
+    public static void resetCooldown(CommandSender sender, String commandName, String subCommandPath) {
+        CooldownManager cooldownManager = getCommandManager().getCooldownManager();
+        int commandId = findCommandId(commandName, subCommandPath);
+        cooldownManager.reset(cooldownManager.getSenderId(sender), commandId);
+    }
+    
+    /**
+     * 送信者のすべてのクールダウンを解除する
+     * @param sender コマンド送信者
+     */
+    public static void resetCooldowns(CommandSender sender) {
+        CooldownManager cooldownManager = getCommandManager().getCooldownManager();
+        cooldownManager.resetAll(cooldownManager.getSenderId(sender));
+    }
+    
+    /**
+     * 補完候補プロバイダーを登録する（同名のプロバイダーは置き換える）
+     * {@code @CommandArguments.Argument(provider = "名前")} を指定した引数の補完に使用されます
+     * @param name 登録名
+     * @param provider プロバイダー
+     */
+    public static void registerSuggestionProvider(String name, SuggestionProvider provider) {
+        getCommandManager().getSuggestionProviders().register(name, provider);
+    }
+    
+    /**
+     * 補完候補プロバイダーの登録を解除する（組み込みプロバイダーの名前の場合は組み込みのものに戻す）
+     * @param name 登録名
+     */
+    public static void unregisterSuggestionProvider(String name) {
+        getCommandManager().getSuggestionProviders().unregister(name);
+    }
+    
+    /**
+     * 補完候補プロバイダーのキャッシュを破棄する（候補の元データを変更した後に呼び出す）
+     * @param name 登録名
+     */
+    public static void invalidateSuggestions(String name) {
+        getCommandManager().getSuggestionProviders().invalidate(name);
+    }
+    
+    /**
+     * プレイヤーの権限キャッシュを破棄する
+     * タブ補完やヘルプ表示は権限の判定結果をキャッシュするため、権限を変更した後に呼び出してください
+     * （ログアウト・ワールド移動時は自動で破棄されます）
+     * @param player プレイヤー
+     */
+    public static void invalidatePermissionCache(Player player) {
+        getCommandManager().getPermissionCache().invalidate(player.getUniqueId());
+    }
+    
+    /**
+     * すべてのプレイヤーの権限キャッシュを破棄する
+     */
+    public static void invalidatePermissionCache() {
+        getCommandManager().getPermissionCache().invalidateAll();
+    }
+    
+    /**
+     * コマンドの実行統計を取得する
+     * @return 実行統計（コマンドIDは {@link #findCommandId(String, String)} で取得）
+     */
+    public static CommandMetrics getMetrics() {
+        return getCommandManager().getMetrics();
+    }
+    
+    /**
+     * クライアントにコマンドツリーを送信する機能を有効化する（Paperのみ、任意）
+     * 引数の構造がクライアントに送信され、構文のハイライトと INTEGER/DOUBLE の検証がクライアント側で行われます（座標などその他の引数はサーバーで解析されます）
+     * @return 有効化した場合はtrue（非対応のサーバーではfalse）
+     */
+    public static boolean enableCommandTreeExport() {
+        return getCommandManager().enableCommandTreeExport();
+    }
+    
+    /**
+     * 補完セッションキャッシュを取得する
+     * @return 補完セッションキャッシュ（{@link CompletionSessionCache#getHitCount()} 等で効果を確認可能）
+     */
+    public static CompletionSessionCache getCompletionSessions() {
+        return getCommandManager().getCompletionSessions();
+    }
+    
+    /**
+     * コマンド・サブコマンドのコマンドIDを取得する
+     * @param commandName コマンド名またはエイリアス
+     * @param subCommandPath サブコマンドのパス（コマンド自体の場合は空文字）
+     * @return コマンドID（登録されていない場合は-1）
+     */
+    public static int findCommandId(String commandName, String subCommandPath) {
+        CommandData commandData = getCommandManager().getCommand(commandName);
+        String registeredName = commandData != null ? commandData.getName() : commandName.toLowerCase();
+        return getCommandManager().getCommandIds().findId(registeredName, subCommandPath.toLowerCase());
+    }
+    
     /**
      * コマンドマネージャーを取得する（内部用）
      * @return コマンドマネージャー
@@ -2,6 +2,7 @@ package com.Tempce.tempceLib.api;
 
 import com.Tempce.tempceLib.gui.data.GUIMenuData;
 import com.Tempce.tempceLib.gui.data.GUIItemData;
+import com.Tempce.tempceLib.gui.data.GUITemplate;
 import com.Tempce.tempceLib.gui.data.MaterialCategory;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -52,6 +53,16 @@ public interface GUIAPI {
      */
     void createCustomMenuGUI(Player player, GUIMenuData menuData);
     
+    /**
+     * テンプレートからGUIを作成
+     * 事前に構築したテンプレートを一括で反映し、プレイヤーごとのアイテムのみを上書きします
+     * @param player 対象プレイヤー
+     * @param template テンプレート（{@link GUITemplate#compile(GUIMenuData)} で一度だけ構築したもの）
+     * @param title GUIタイトル（nullの場合はテンプレートのタイトル）
+     * @param dynamicItems プレイヤーごとのアイテム（アイテムスタックがnullの場合はテンプレートのアイテムにアクションのみを割り当てる）
+     */
+    void createTemplateGUI(Player player, GUITemplate template, String title, List<GUIItemData> dynamicItems);
+    
     /**
      * オンラインプレイヤー選択GUIを作成
      * @param player 対象プレイヤー
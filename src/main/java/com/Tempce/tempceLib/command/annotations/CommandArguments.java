@@ -54,6 +54,12 @@ public @interface CommandArguments {
          */
         String[] suggestions() default {};
         
+        /**
+         * 補完候補プロバイダーの登録名（{@link com.Tempce.tempceLib.api.CommandAPI#registerSuggestionProvider} で登録）
+         * 指定した場合は引数タイプより優先して使用されます
+         */
+        String provider() default "";
+        
         /**
          * 最小値（数値型の場合）
          */
@@ -0,0 +1,287 @@
+package com.Tempce.tempceLib.command.brigadier;
+
+import com.Tempce.tempceLib.TempceLib;
+import com.Tempce.tempceLib.command.manager.CommandManager;
+import com.Tempce.tempceLib.command.permission.PermissionCache;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * コマンドツリーをサーバーのBrigadierコマンドグラフとしてクライアントに送信するブリッジ
+ * Paperの AsyncPlayerSendCommandsEvent を受け取り、TempceLibのコマンドのノード（Bukkitが登録する任意引数のノード）を
+ * {@link CommandTreeExporter} で構築したツリーに置き換えます
+ *
+ * クライアントは受け取ったツリーで構文の解析・ハイライトを行い、INTEGER・DOUBLE の引数は
+ * サーバーに問い合わせずに入力を検証します。それ以外の引数の補完候補は従来どおりサーバーに問い合わせます
+ * 置き換えるのは送信用のツリーのみで、コマンドの実行はこれまでどおり Bukkit のコマンドとして処理されます
+ *
+ * Brigadierのクラスはリフレクションで参照するため、ライブラリのコンパイル時には不要です
+ * プレイヤーごとに権限のあるサブコマンドのみを送信します
+ */
+public class BrigadierCommandTreeBridge implements Listener {
+
+    private static final String EVENT_CLASS = "com.destroystokyo.paper.event.brigadier.AsyncPlayerSendCommandsEvent";
+    private static final String BRIGADIER = "com.mojang.brigadier.";
+
+    private final CommandManager commandManager;
+    private final PermissionCache permissionCache;
+
+    private final Method getPlayer;
+    private final Method getCommandNode;
+    private final Method hasFiredAsync;
+
+    private final Method literal;
+    private final Method argument;
+    private final Method executes;
+    private final Method suggests;
+    private final Method build;
+    private final Method addChild;
+    private final Method getChild;
+    private final Method getName;
+    private final Method removeCommand; // Paperの拡張（存在しない場合はnull）
+
+    private final Method integerType;
+    private final Method doubleType;
+    private final Object wordType;
+    private final Object greedyStringType;
+
+    private final Object command;
+    private final Object askServer;
+
+    private BrigadierCommandTreeBridge(CommandManager commandManager, Class<?> eventClass) throws ReflectiveOperationException {
+        this.commandManager = commandManager;
+        this.permissionCache = commandManager.getPermissionCache();
+
+        this.getPlayer = eventClass.getMethod("getPlayer");
+        this.getCommandNode = eventClass.getMethod("getCommandNode");
+        this.hasFiredAsync = eventClass.getMethod("hasFiredAsync");
+
+        Class<?> commandClass = Class.forName(BRIGADIER + "Command");
+        Class<?> suggestionProviderClass = Class.forName(BRIGADIER + "suggestion.SuggestionProvider");
+        Class<?> argumentTypeClass = Class.forName(BRIGADIER + "arguments.ArgumentType");
+        Class<?> argumentBuilderClass = Class.forName(BRIGADIER + "builder.ArgumentBuilder");
+        Class<?> requiredBuilderClass = Class.forName(BRIGADIER + "builder.RequiredArgumentBuilder");
+        Class<?> nodeClass = Class.forName(BRIGADIER + "tree.CommandNode");
+
+        this.literal = Class.forName(BRIGADIER + "builder.LiteralArgumentBuilder").getMethod("literal", String.class);
+        this.argument = requiredBuilderClass.getMethod("argument", String.class, argumentTypeClass);
+        this.executes = argumentBuilderClass.getMethod("executes", commandClass);
+        this.suggests = requiredBuilderClass.getMethod("suggests", suggestionProviderClass);
+        this.build = argumentBuilderClass.getMethod("build");
+        this.addChild = nodeClass.getMethod("addChild", nodeClass);
+        this.getChild = nodeClass.getMethod("getChild", String.class);
+        this.getName = nodeClass.getMethod("getName");
+        this.removeCommand = findMethod(nodeClass, "removeCommand", String.class);
+
+        this.integerType = Class.forName(BRIGADIER + "arguments.IntegerArgumentType").getMethod("integer", int.class, int.class);
+        this.doubleType = Class.forName(BRIGADIER + "arguments.DoubleArgumentType").getMethod("doubleArg", double.class, double.class);
+        Class<?> stringTypeClass = Class.forName(BRIGADIER + "arguments.StringArgumentType");
+        this.wordType = stringTypeClass.getMethod("word").invoke(null);
+        this.greedyStringType = stringTypeClass.getMethod("greedyString").invoke(null);
+
+        // 送信用のツリーではクライアントが実行可否の判定にのみ使用する（サーバーでは呼び出されない）
+        this.command = proxy(commandClass, (proxy, method, args) -> "run".equals(method.getName())
+            ? 1 : objectMethod(proxy, method, args));
+        // 独自の補完処理を持つノードは、クライアントからサーバーに補完候補を問い合わせるノードとして送信される
+        this.askServer = proxy(suggestionProviderClass, (proxy, method, args) -> "getSuggestions".equals(method.getName())
+            ? args[1].getClass().getMethod("buildFuture").invoke(args[1]) : objectMethod(proxy, method, args));
+    }
+
+    /**
+     * コマンドツリーの送信が使用できる場合にブリッジを登録する
+     * @param commandManager コマンドマネージャー
+     * @param plugin イベントを登録するプラグイン
+     * @return 登録した場合はtrue（非対応のサーバーではfalse）
+     */
+    public static boolean register(CommandManager commandManager, Plugin plugin) {
+        Class<? extends Event> eventClass;
+        try {
+            eventClass = Class.forName(EVENT_CLASS).asSubclass(Event.class);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            return false;
+        }
+
+        try {
+            BrigadierCommandTreeBridge bridge = new BrigadierCommandTreeBridge(commandManager, eventClass);
+            Bukkit.getPluginManager().registerEvent(eventClass, bridge, EventPriority.NORMAL,
+                (listener, event) -> bridge.handle(event), plugin, true);
+            return true;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            plugin.getLogger().log(Level.WARNING, "コマンドツリーの送信を有効化できませんでした", e);
+            return false;
+        }
+    }
+
+    /**
+     * 送信イベントを処理する
+     */
+    private void handle(Event event) {
+        try {
+            // 非同期で送信された場合は、その後の同期の呼び出しを処理しない
+            if (!event.isAsynchronous() && (boolean) hasFiredAsync.invoke(event)) {
+                return;
+            }
+
+            Player player = (Player) getPlayer.invoke(event);
+            Object root = getCommandNode.invoke(event);
+            for (CommandTreeNode tree : commandManager.getCommandTrees()) {
+                List<Object> nodes = buildLiteral(tree, player);
+                for (Object node : nodes) {
+                    // Bukkitのノードが送信されない（権限がない・他のプラグインが同じ名前を使用している）場合は置き換えない
+                    String label = nodeName(node);
+                    if (getChild.invoke(root, label) != null && commandManager.isOwnedLabel(label)) {
+                        remove(root, label);
+                        addChild.invoke(root, node);
+                    }
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            // 置き換えに失敗した場合はBukkitのノードのまま送信される
+            TempceLib.getInstance().getLogger().log(Level.WARNING, "コマンドツリーの送信に失敗しました", e);
+        }
+    }
+
+    /**
+     * リテラルノードとそのエイリアスのノードを構築する
+     * @return 名前・エイリアスの順のノード（表示できない場合は空）
+     */
+    private List<Object> buildLiteral(CommandTreeNode tree, Player player) throws ReflectiveOperationException {
+        List<Object> nodes = new ArrayList<>();
+        if (!permissionCache.hasPermission(player, tree.getPermission())) {
+            return nodes;
+        }
+        List<Object> children = buildChildren(tree, player);
+        if (!tree.isExecutable() && children.isEmpty()) {
+            return nodes; // 表示できるサブコマンドがない中間ノード
+        }
+
+        // エイリアスは同じ子ノードを共有する
+        nodes.add(literalNode(tree.getName(), tree.isExecutable(), children));
+        for (String alias : tree.getAliases()) {
+            nodes.add(literalNode(alias, tree.isExecutable(), children));
+        }
+        return nodes;
+    }
+
+    private List<Object> buildChildren(CommandTreeNode tree, Player player) throws ReflectiveOperationException {
+        List<Object> children = new ArrayList<>();
+        for (CommandTreeNode child : tree.getChildren()) {
+            if (child.getKind() == CommandTreeNode.Kind.LITERAL) {
+                children.addAll(buildLiteral(child, player));
+            } else {
+                children.add(argumentNode(child, buildChildren(child, player)));
+            }
+        }
+        return children;
+    }
+
+    private Object literalNode(String name, boolean executable, List<Object> children) throws ReflectiveOperationException {
+        Object builder = literal.invoke(null, name);
+        if (executable) {
+            executes.invoke(builder, command);
+        }
+        return withChildren(build.invoke(builder), children);
+    }
+
+    private Object argumentNode(CommandTreeNode tree, List<Object> children) throws ReflectiveOperationException {
+        Object builder = argument.invoke(null, tree.getName(), argumentType(tree));
+        if (tree.isExecutable()) {
+            executes.invoke(builder, command);
+        }
+        if (tree.hasServerSuggestions()) {
+            suggests.invoke(builder, askServer);
+        }
+        return withChildren(build.invoke(builder), children);
+    }
+
+    private Object withChildren(Object node, List<Object> children) throws ReflectiveOperationException {
+        for (Object child : children) {
+            addChild.invoke(node, child);
+        }
+        return node;
+    }
+
+    /**
+     * 解析方法に対応するBrigadierの引数タイプ
+     */
+    private Object argumentType(CommandTreeNode tree) throws ReflectiveOperationException {
+        switch (tree.getParser()) {
+            case INTEGER:
+                return integerType.invoke(null, toInt(Math.ceil(tree.getMin())), toInt(Math.floor(tree.getMax())));
+            case DOUBLE:
+                return doubleType.invoke(null, tree.getMin(), tree.getMax());
+            case GREEDY_STRING:
+                return greedyStringType;
+            case WORD:
+            default:
+                return wordType;
+        }
+    }
+
+    private String nodeName(Object node) throws ReflectiveOperationException {
+        return (String) getName.invoke(node);
+    }
+
+    /**
+     * ルートノードから指定した名前の子ノードを削除する
+     */
+    @SuppressWarnings("unchecked")
+    private void remove(Object root, String name) throws ReflectiveOperationException {
+        if (removeCommand != null) {
+            removeCommand.invoke(root, name);
+            return;
+        }
+        // Paperの拡張がない場合は内部のマップから直接削除する
+        Class<?> nodeClass = addChild.getDeclaringClass();
+        for (String fieldName : new String[] {"children", "literals", "arguments"}) {
+            Field field = nodeClass.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            ((Map<String, ?>) field.get(root)).remove(name);
+        }
+    }
+
+    private static int toInt(double value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object proxy(Class<?> type, InvocationHandler handler) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    /**
+     * プロキシに対する Object のメソッド呼び出しを処理する
+     */
+    private static Object objectMethod(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "TempceLib" + proxy.getClass().getInterfaces()[0].getSimpleName();
+            default:
+                return null;
+        }
+    }
+}
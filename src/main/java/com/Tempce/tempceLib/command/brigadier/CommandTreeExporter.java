@@ -0,0 +1,110 @@
+package com.Tempce.tempceLib.command.brigadier;
+
+import com.Tempce.tempceLib.command.data.ArgumentData;
+import com.Tempce.tempceLib.command.data.CommandData;
+import com.Tempce.tempceLib.command.data.CommandNode;
+import com.Tempce.tempceLib.command.data.SubCommandData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 登録済みのコマンド定義をクライアント向けのコマンドツリーに変換するクラス
+ * ルーティング用トライ木（{@link CommandNode}）をそのままリテラルノードに、
+ * サブコマンドの引数定義を引数ノードの連鎖に変換します
+ *
+ * INTEGER・DOUBLE はクライアント側で解析される型に対応付け、BOOLEAN（on/off・yes/no も受け付ける）と
+ * プレイヤー名の引数はサーバーに補完候補を問い合わせる単語として送信します
+ * 単語（英数字と _ - . + のみ）で表せない値を取りうる引数（相対座標の ~、名前空間付きID の : を含む座標・ID・
+ * ワールド・文字列）は、以降の入力をすべて受け付ける末尾の文字列ノードとして送信し、解析はサーバーに任せます
+ * 引数定義のない (CommandSender, String[]) 形式のサブコマンドには、任意の引数を受け付ける末尾ノードを追加します
+ */
+public final class CommandTreeExporter {
+
+    private static final String REST_ARGUMENT = "args";
+
+    private CommandTreeExporter() {
+    }
+
+    /**
+     * コマンドをコマンドツリーに変換する
+     * @param commandData コマンドデータ
+     * @return コマンド名のリテラルノード（引数なしでヘルプを表示するため実行可能）
+     */
+    public static CommandTreeNode export(CommandData commandData) {
+        return CommandTreeNode.literal(commandData.getName(), commandData.getAliases(),
+            commandData.getPermission(), true, exportChildren(commandData.getCommandTree()));
+    }
+
+    /**
+     * トライ木の子ノードを変換する（名前順）
+     */
+    private static List<CommandTreeNode> exportChildren(CommandNode node) {
+        List<CommandTreeNode> children = new ArrayList<>();
+        for (CommandNode child : node.getChildren()) {
+            children.add(exportNode(child));
+        }
+        return children;
+    }
+
+    private static CommandTreeNode exportNode(CommandNode node) {
+        List<CommandTreeNode> children = exportChildren(node);
+        SubCommandData subCommand = node.getSubCommand();
+        if (subCommand == null) {
+            return CommandTreeNode.literal(node.getName(), Collections.emptyList(), "", false, children);
+        }
+
+        if (subCommand.hasArguments()) {
+            children.add(exportArguments(subCommand.getArguments(), 0));
+        } else if (!subCommand.isTypedBinding()) {
+            children.add(CommandTreeNode.argument(REST_ARGUMENT, CommandTreeNode.Parser.GREEDY_STRING,
+                0, 0, true, true, Collections.emptyList()));
+        }
+
+        // エイリアスはトライ木と同じく第1レベルのみ
+        List<String> aliases = node.getDepth() == 1
+            ? new ArrayList<>(subCommand.getAliasSet()) : Collections.emptyList();
+        return CommandTreeNode.literal(node.getName(), aliases, subCommand.getPermission(), true, children);
+    }
+
+    /**
+     * 指定位置以降の引数定義を引数ノードの連鎖に変換する
+     */
+    private static CommandTreeNode exportArguments(List<ArgumentData> arguments, int index) {
+        ArgumentData argument = arguments.get(index);
+        List<CommandTreeNode> children = index + 1 < arguments.size()
+            ? Collections.singletonList(exportArguments(arguments, index + 1)) : Collections.emptyList();
+
+        // 以降の引数がすべて任意であれば、この引数でコマンドを確定できる
+        boolean executable = true;
+        for (int i = index + 1; i < arguments.size(); i++) {
+            if (arguments.get(i).isRequired()) {
+                executable = false;
+                break;
+            }
+        }
+
+        switch (argument.getType()) {
+            case INTEGER:
+                return CommandTreeNode.argument(argument.getName(), CommandTreeNode.Parser.INTEGER,
+                    argument.getMin() != Double.MIN_VALUE ? argument.getMin() : Integer.MIN_VALUE,
+                    argument.getMax() != Double.MAX_VALUE ? argument.getMax() : Integer.MAX_VALUE,
+                    executable, false, children);
+            case DOUBLE:
+                return CommandTreeNode.argument(argument.getName(), CommandTreeNode.Parser.DOUBLE,
+                    argument.getMin() != Double.MIN_VALUE ? argument.getMin() : -Double.MAX_VALUE,
+                    argument.getMax(), executable, false, children);
+            case BOOLEAN:
+            case ONLINE_PLAYER:
+            case ALL_PLAYER:
+                // 真偽値（true/false/on/off/yes/no）とプレイヤー名は英数字と _ のみ
+                return CommandTreeNode.argument(argument.getName(), CommandTreeNode.Parser.WORD,
+                    0, 0, executable, true, children);
+            default:
+                // ~ や : を含みうるため、以降の引数もまとめてサーバーで解析する
+                return CommandTreeNode.argument(argument.getName(), CommandTreeNode.Parser.GREEDY_STRING,
+                    0, 0, true, true, Collections.emptyList());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.Tempce.tempceLib.command.brigadier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * クライアントに送信するコマンドツリーのノード（プラットフォームに依存しない形式）
+ * 登録済みのコマンド定義から {@link CommandTreeExporter} で構築される不変オブジェクトで、
+ * Brigadierのリテラル・引数ノードにそのまま対応します
+ */
+public final class CommandTreeNode {
+
+    /**
+     * ノードの種類
+     */
+    public enum Kind {
+        /** 固定の文字列（コマンド名・サブコマンド名） */
+        LITERAL,
+        /** 引数 */
+        ARGUMENT
+    }
+
+    /**
+     * 引数ノードの解析方法（クライアント側で解析・ハイライトされる型）
+     */
+    public enum Parser {
+        /** 空白を含まない文字列（英数字と _ - . + のみ） */
+        WORD,
+        /** 残りの入力すべて */
+        GREEDY_STRING,
+        /** 整数（範囲付き） */
+        INTEGER,
+        /** 小数（範囲付き） */
+        DOUBLE
+    }
+
+    private final Kind kind;
+    private final String name;
+    private final List<String> aliases;
+    private final Parser parser;
+    private final double min;
+    private final double max;
+    private final String permission;
+    private final boolean executable;
+    private final boolean serverSuggestions;
+    private final List<CommandTreeNode> children;
+
+    private CommandTreeNode(Kind kind, String name, List<String> aliases, Parser parser, double min, double max,
+                            String permission, boolean executable, boolean serverSuggestions,
+                            List<CommandTreeNode> children) {
+        this.kind = kind;
+        this.name = name;
+        this.aliases = Collections.unmodifiableList(new ArrayList<>(aliases));
+        this.parser = parser;
+        this.min = min;
+        this.max = max;
+        this.permission = permission;
+        this.executable = executable;
+        this.serverSuggestions = serverSuggestions;
+        this.children = Collections.unmodifiableList(new ArrayList<>(children));
+    }
+
+    /**
+     * リテラルノードを作成する
+     * @param name 名前
+     * @param aliases エイリアス（同じ子ノードを持つリテラルとして送信される）
+     * @param permission 表示に必要な権限（不要な場合は空文字）
+     * @param executable ここでコマンドを確定できるか（実行できない中間ノードは、表示できる子ノードがある場合のみ送信される）
+     * @param children 子ノード
+     */
+    public static CommandTreeNode literal(String name, List<String> aliases, String permission, boolean executable,
+                                          List<CommandTreeNode> children) {
+        return new CommandTreeNode(Kind.LITERAL, name, aliases, null, 0, 0, permission, executable, false, children);
+    }
+
+    /**
+     * 引数ノードを作成する
+     * @param name 引数名
+     * @param parser 解析方法
+     * @param min 最小値（INTEGER・DOUBLEのみ）
+     * @param max 最大値（INTEGER・DOUBLEのみ）
+     * @param executable ここでコマンドを確定できるか（以降の引数がすべて任意の場合）
+     * @param serverSuggestions 補完候補をサーバーに問い合わせるか
+     * @param children 子ノード
+     */
+    public static CommandTreeNode argument(String name, Parser parser, double min, double max, boolean executable,
+                                           boolean serverSuggestions, List<CommandTreeNode> children) {
+        return new CommandTreeNode(Kind.ARGUMENT, name, Collections.emptyList(), parser, min, max, "",
+            executable, serverSuggestions, children);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getAliases() {
+        return aliases;
+    }
+
+    /**
+     * 解析方法を取得（リテラルノードの場合はnull）
+     */
+    public Parser getParser() {
+        return parser;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public String getPermission() {
+        return permission;
+    }
+
+    public boolean isExecutable() {
+        return executable;
+    }
+
+    public boolean hasServerSuggestions() {
+        return serverSuggestions;
+    }
+
+    public List<CommandTreeNode> getChildren() {
+        return children;
+    }
+}
@@ -0,0 +1,126 @@
+package com.Tempce.tempceLib.command.completer;
+
+import com.Tempce.tempceLib.TempceLib;
+import com.Tempce.tempceLib.command.data.CommandData;
+import com.Tempce.tempceLib.command.manager.CommandManager;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * 非同期タブ補完のハンドラー
+ * Paperの AsyncTabCompleteEvent を受け取り、TempceLibのコマンドの補完候補をメインスレッド外で計算します
+ *
+ * 非同期スレッドでは、不変またはスレッドセーフなデータ（ルーティングトライ木・プレイヤー名インデックス・
+ * マテリアルカタログ・レジストリのスナップショット）と、権限キャッシュの判定済みの結果のみを参照します
+ * 未判定の権限・ワールド名・補完プロバイダーが必要な入力は処理済みにせず、同期の補完に任せます
+ * イベントが存在しないサーバーでは登録されず、従来どおり {@link TempceTabCompleter} で同期的に補完されます
+ */
+public class AsyncTabCompleteHandler implements Listener {
+
+    private static final String EVENT_CLASS = "com.destroystokyo.paper.event.server.AsyncTabCompleteEvent";
+
+    private final CommandManager commandManager;
+    private final String fallbackPrefix;
+    private final Method getSender;
+    private final Method getBuffer;
+    private final Method isCommand;
+    private final Method isHandled;
+    private final Method setCompletions;
+    private final Method setHandled;
+
+    private AsyncTabCompleteHandler(CommandManager commandManager, String fallbackPrefix, Class<?> eventClass)
+            throws NoSuchMethodException {
+        this.commandManager = commandManager;
+        this.fallbackPrefix = fallbackPrefix;
+        this.getSender = eventClass.getMethod("getSender");
+        this.getBuffer = eventClass.getMethod("getBuffer");
+        this.isCommand = eventClass.getMethod("isCommand");
+        this.isHandled = eventClass.getMethod("isHandled");
+        this.setCompletions = eventClass.getMethod("setCompletions", List.class);
+        this.setHandled = eventClass.getMethod("setHandled", boolean.class);
+    }
+
+    /**
+     * 非同期タブ補完が使用できる場合にハンドラーを登録する
+     * @param commandManager コマンドマネージャー
+     * @param plugin イベントを登録するプラグイン
+     * @return 登録した場合はtrue（非対応のサーバーではfalse）
+     */
+    public static boolean register(CommandManager commandManager, Plugin plugin) {
+        Class<? extends Event> eventClass;
+        try {
+            eventClass = Class.forName(EVENT_CLASS).asSubclass(Event.class);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            return false;
+        }
+
+        try {
+            AsyncTabCompleteHandler handler = new AsyncTabCompleteHandler(commandManager,
+                plugin.getDescription().getName(), eventClass);
+            Bukkit.getPluginManager().registerEvent(eventClass, handler, EventPriority.NORMAL,
+                (listener, event) -> handler.handle(event), plugin, true);
+            return true;
+        } catch (NoSuchMethodException e) {
+            plugin.getLogger().log(Level.WARNING, "非同期タブ補完を有効化できませんでした", e);
+            return false;
+        }
+    }
+
+    /**
+     * 補完イベントを処理する
+     */
+    private void handle(Object event) {
+        try {
+            if ((boolean) isHandled.invoke(event) || !(boolean) isCommand.invoke(event)) {
+                return;
+            }
+
+            String buffer = (String) getBuffer.invoke(event);
+            if (buffer.startsWith("/")) {
+                buffer = buffer.substring(1);
+            }
+            int separator = buffer.indexOf(' ');
+            if (separator < 0) {
+                return; // コマンド名自体の補完はサーバーに任せる
+            }
+
+            // 名前空間付きのラベル（tempcelib:command）にも対応
+            String label = buffer.substring(0, separator);
+            int namespace = label.indexOf(':');
+            if (namespace >= 0) {
+                if (!label.substring(0, namespace).equalsIgnoreCase(fallbackPrefix)) {
+                    return; // 他のプラグインのコマンド
+                }
+                label = label.substring(namespace + 1);
+            } else if (!commandManager.isOwnedLabel(label)) {
+                return; // 同名のコマンドを他のプラグインが登録している
+            }
+            CommandData commandData = commandManager.getCommand(label);
+            if (commandData == null) {
+                return; // TempceLibのコマンドではない
+            }
+
+            String[] args = buffer.substring(separator + 1).split(" ", -1);
+            CommandSender sender = (CommandSender) getSender.invoke(event);
+
+            List<String> completions = commandManager.getAsyncTabCompletions(sender, commandData.getName(), args);
+            if (completions == null) {
+                return; // メインスレッドでの判定が必要なため、同期の補完に任せる
+            }
+            commandManager.getMetrics().recordTabCompletion();
+            setCompletions.invoke(event, completions);
+            setHandled.invoke(event, true);
+        } catch (ReflectiveOperationException e) {
+            // 処理済みにしないことで、同期の補完にフォールバックする
+            TempceLib.getInstance().getLogger().log(Level.WARNING, "非同期タブ補完に失敗しました", e);
+        }
+    }
+}
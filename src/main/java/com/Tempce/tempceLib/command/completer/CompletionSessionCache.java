@@ -0,0 +1,133 @@
+package com.Tempce.tempceLib.command.completer;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 送信者ごとの補完セッションキャッシュ
+ * 直前に補完した引数スロットと入力・候補を送信者ごとに1件保持し、
+ * 同じスロットで入力が前回の入力を延長している場合は、候補の元データを走査せずに前回の候補を絞り込みます
+ *
+ * 候補そのものに対する前方一致（大文字・小文字を区別しない）で絞り込まれる補完にのみ使用できます
+ * セッションは送信者のログアウト時に破棄されます
+ */
+public class CompletionSessionCache implements Listener {
+
+    private final ConcurrentHashMap<Object, Session> sessions = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * 補完候補を取得する
+     * @param sender コマンド送信者
+     * @param slot 引数スロット（同一性で比較）
+     * @param input 入力中の文字列
+     * @param source 前回の候補を使用できない場合に候補を計算する関数（入力を受け取る）
+     * @return 補完候補（呼び出し側で変更可能な新しいリスト）
+     */
+    public List<String> complete(CommandSender sender, Object slot, String input, Function<String, List<String>> source) {
+        String prefix = input.toLowerCase();
+        Object senderKey = keyOf(sender);
+        Session session = sessions.get(senderKey);
+
+        if (session != null && session.slot == slot && prefix.startsWith(session.prefix)) {
+            hits.increment();
+            List<String> narrowed = new ArrayList<>(session.completions.length);
+            for (String completion : session.completions) {
+                if (completion.toLowerCase().startsWith(prefix)) {
+                    narrowed.add(completion);
+                }
+            }
+            if (narrowed.size() < session.completions.length) {
+                sessions.put(senderKey, new Session(slot, prefix, narrowed.toArray(new String[0])));
+            }
+            return narrowed;
+        }
+
+        misses.increment();
+        List<String> completions = source.apply(input);
+        sessions.put(senderKey, new Session(slot, prefix, completions.toArray(new String[0])));
+        return new ArrayList<>(completions);
+    }
+
+    /**
+     * 送信者のセッションを破棄する
+     * @param sender コマンド送信者
+     */
+    public void invalidate(CommandSender sender) {
+        sessions.remove(keyOf(sender));
+    }
+
+    /**
+     * すべてのセッションを破棄する
+     */
+    public void invalidateAll() {
+        sessions.clear();
+    }
+
+    /**
+     * 前回の候補を絞り込んだ回数を取得
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * 候補を元データから計算した回数を取得
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * セッションを保持している送信者数を取得
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * ヒット・ミスの回数をリセットする
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        sessions.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * 送信者のキー（プレイヤーはUUID、それ以外は名前）
+     */
+    private static Object keyOf(CommandSender sender) {
+        return sender instanceof Player ? ((Player) sender).getUniqueId() : sender.getName();
+    }
+
+    /**
+     * 送信者1人分の補完セッション
+     */
+    private static final class Session {
+        private final Object slot;
+        private final String prefix;
+        private final String[] completions;
+
+        private Session(Object slot, String prefix, String[] completions) {
+            this.slot = slot;
+            this.prefix = prefix;
+            this.completions = completions;
+        }
+    }
+}
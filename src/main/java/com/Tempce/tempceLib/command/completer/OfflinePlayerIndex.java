@@ -0,0 +1,319 @@
+package com.Tempce.tempceLib.command.completer;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.logging.Level;
+
+/**
+ * 参加したことのあるプレイヤー名のインデックス（オフラインプレイヤーを含む）
+ * 小文字の名前のソート済み配列（ベース）と、起動後に参加したプレイヤーの差分を保持し、
+ * 前方一致する範囲を二分探索で求めます
+ *
+ * ベースは有効化時に非同期で構築され（データファイルがあれば読み込み、なければ
+ * {@link Bukkit#getOfflinePlayers()} から構築）、新しい名前が追加されていれば定期的に非同期で、
+ * また無効化時にデータファイルへ保存されます（強制終了時に失われるのは直近の保存以降の名前のみ）
+ * 差分が一定数に達するとベースに統合されます
+ */
+public class OfflinePlayerIndex implements Listener {
+
+    private static final int COMPACT_THRESHOLD = 256;
+    private static final long SAVE_INTERVAL_TICKS = 20L * 60 * 5; // 5分
+
+    private final File dataFile;
+    private final Object saveLock = new Object();
+    private final ConcurrentSkipListMap<String, String> delta = new ConcurrentSkipListMap<>();
+    private volatile Base base = new Base(new String[0], new String[0]);
+    private volatile boolean loaded;
+    private volatile boolean dirty; // 前回の保存以降に名前が追加されたか
+
+    /**
+     * @param dataFile 名前を保存するデータファイル
+     */
+    public OfflinePlayerIndex(File dataFile) {
+        this.dataFile = dataFile;
+    }
+
+    /**
+     * インデックスを非同期で構築し、定期保存を開始する
+     * @param plugin タスクを登録するプラグイン
+     */
+    public void loadAsync(Plugin plugin) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                load();
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.WARNING, "プレイヤー名インデックスの構築に失敗しました", e);
+            }
+        });
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> saveIfDirty(plugin),
+            SAVE_INTERVAL_TICKS, SAVE_INTERVAL_TICKS);
+    }
+
+    /**
+     * 前回の保存以降に名前が追加されていれば保存する
+     */
+    private void saveIfDirty(Plugin plugin) {
+        if (!dirty || !loaded) {
+            return;
+        }
+        dirty = false;
+        try {
+            save();
+        } catch (IOException e) {
+            dirty = true; // 次回に再試行
+            plugin.getLogger().log(Level.WARNING, "プレイヤー名インデックスの保存に失敗しました", e);
+        }
+    }
+
+    /**
+     * インデックスを構築する（データファイルがなければサーバーのプレイヤーデータから構築）
+     */
+    public void load() throws IOException {
+        List<String> names = new ArrayList<>();
+        if (dataFile.isFile()) {
+            try (BufferedReader reader = Files.newBufferedReader(dataFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        names.add(line);
+                    }
+                }
+            }
+        } else {
+            for (OfflinePlayer offlinePlayer : Bukkit.getOfflinePlayers()) {
+                String name = offlinePlayer.getName();
+                if (name != null) {
+                    names.add(name);
+                }
+            }
+            dirty = true; // 初回はデータファイルを作成する
+        }
+
+        synchronized (this) {
+            base = build(names);
+            loaded = true;
+            // 構築中に参加したプレイヤーを取り込む
+            compact();
+        }
+    }
+
+    /**
+     * インデックスをデータファイルに保存する
+     * 構築が完了していない場合は保存しません（既存のデータファイルを空で上書きしないため）
+     */
+    public void save() throws IOException {
+        // 保存同士は saveLock で順序付け、インデックスのロック中は統合のみ行う（参加時の統合をファイルへの書き込みで待たせないため）
+        synchronized (saveLock) {
+            String[] names;
+            synchronized (this) {
+                if (!loaded) {
+                    return;
+                }
+                compact();
+                names = base.names;
+            }
+
+            File parent = dataFile.getParentFile();
+            if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+                throw new IOException("ディレクトリを作成できません: " + parent);
+            }
+
+            // 一時ファイルに書き込んでから置き換える
+            File temporary = new File(dataFile.getPath() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temporary.toPath(), StandardCharsets.UTF_8)) {
+                for (String name : names) {
+                    writer.write(name);
+                    writer.newLine();
+                }
+            }
+            Files.move(temporary.toPath(), dataFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * プレイヤー名を追加する
+     * @param name プレイヤー名
+     */
+    public void add(String name) {
+        String lowerName = name.toLowerCase();
+        Base current = base;
+        int position = Arrays.binarySearch(current.lowerNames, lowerName);
+        if (position >= 0 && current.names[position].equals(name)) {
+            return; // 登録済み
+        }
+
+        delta.put(lowerName, name);
+        dirty = true;
+        if (loaded && delta.size() >= COMPACT_THRESHOLD) {
+            compact();
+        }
+    }
+
+    /**
+     * 入力に前方一致するプレイヤー名を取得する（名前順）
+     * @param input 入力中の文字列
+     * @param limit 候補数の上限
+     * @return プレイヤー名
+     */
+    public List<String> complete(String input, int limit) {
+        String prefix = input.toLowerCase();
+        Base current = base;
+        int from = fromIndex(current.lowerNames, prefix);
+        int to = toIndex(current.lowerNames, prefix, from);
+        Iterator<Map.Entry<String, String>> added = delta
+            .subMap(prefix, true, prefix + Character.MAX_VALUE, true).entrySet().iterator();
+
+        // ベースと差分はどちらも名前順のため、マージしながら上限まで取り出す
+        List<String> names = new ArrayList<>(Math.min(limit, 32));
+        Map.Entry<String, String> next = added.hasNext() ? added.next() : null;
+        int i = from;
+        while (names.size() < limit && (i < to || next != null)) {
+            int compare = i >= to ? 1 : next == null ? -1 : current.lowerNames[i].compareTo(next.getKey());
+            if (compare < 0) {
+                names.add(current.names[i++]);
+            } else {
+                names.add(next.getValue());
+                if (compare == 0) {
+                    i++; // 差分の名前を優先
+                }
+                next = added.hasNext() ? added.next() : null;
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 登録されているプレイヤー名の数を取得（差分の統合前は重複を含む場合あり）
+     */
+    public int size() {
+        return base.names.length + delta.size();
+    }
+
+    /**
+     * 構築が完了しているか
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        add(event.getPlayer().getName());
+    }
+
+    /**
+     * 差分をベースに統合する
+     */
+    private synchronized void compact() {
+        if (delta.isEmpty()) {
+            return;
+        }
+        // 統合中に追加された名前は差分に残す（統合後のベースと重複しても検索時に除かれる）
+        Map<String, String> snapshot = new TreeMap<>(delta);
+        base = merge(base, snapshot);
+        for (Map.Entry<String, String> entry : snapshot.entrySet()) {
+            delta.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 名前の一覧からベースを構築する（小文字の名前が重複する場合は後の名前を優先）
+     */
+    private static Base build(List<String> names) {
+        TreeMap<String, String> sorted = new TreeMap<>();
+        for (String name : names) {
+            sorted.put(name.toLowerCase(), name);
+        }
+        return merge(new Base(new String[0], new String[0]), sorted);
+    }
+
+    /**
+     * ベースと名前順のマップを統合する（同じ名前はマップを優先）
+     */
+    private static Base merge(Base current, Map<String, String> additions) {
+        String[] lowerNames = new String[current.lowerNames.length + additions.size()];
+        String[] names = new String[lowerNames.length];
+        Iterator<Map.Entry<String, String>> added = additions.entrySet().iterator();
+        Map.Entry<String, String> next = added.hasNext() ? added.next() : null;
+
+        int size = 0;
+        int i = 0;
+        while (i < current.lowerNames.length || next != null) {
+            int compare = i >= current.lowerNames.length ? 1
+                : next == null ? -1 : current.lowerNames[i].compareTo(next.getKey());
+            if (compare < 0) {
+                lowerNames[size] = current.lowerNames[i];
+                names[size++] = current.names[i++];
+            } else {
+                lowerNames[size] = next.getKey();
+                names[size++] = next.getValue();
+                if (compare == 0) {
+                    i++;
+                }
+                next = added.hasNext() ? added.next() : null;
+            }
+        }
+        return new Base(Arrays.copyOf(lowerNames, size), Arrays.copyOf(names, size));
+    }
+
+    private static int fromIndex(String[] lowerNames, String prefix) {
+        int low = 0;
+        int high = lowerNames.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lowerNames[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int toIndex(String[] lowerNames, String prefix, int fromIndex) {
+        int low = fromIndex;
+        int high = lowerNames.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lowerNames[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * ソート済みのベース（小文字の名前と元の名前の並列配列）
+     */
+    private static final class Base {
+        private final String[] lowerNames;
+        private final String[] names;
+
+        private Base(String[] lowerNames, String[] names) {
+            this.lowerNames = lowerNames;
+            this.names = names;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.Tempce.tempceLib.command.completer;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * オンラインプレイヤー名のインデックス
+ * 参加・退出イベントで差分更新される小文字の名前のソート済み配列を保持し、
+ * 前方一致する範囲を二分探索で求めます
+ *
+ * 配列は更新のたびに作り直され（コピーオンライト）、読み取り側はロックなしで参照できます
+ */
+public class PlayerNameIndex implements Listener {
+
+    private volatile Entry[] entries = new Entry[0];
+
+    /**
+     * 現在のオンラインプレイヤーからインデックスを再構築する
+     * プラグインのリロード時など、参加イベントを受け取れなかったプレイヤーを取り込むために使用します
+     */
+    public synchronized void rebuild() {
+        List<Entry> online = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            online.add(new Entry(player.getName(), player.getUniqueId()));
+        }
+        Entry[] rebuilt = online.toArray(new Entry[0]);
+        Arrays.sort(rebuilt, (a, b) -> a.lowerName.compareTo(b.lowerName));
+        entries = rebuilt;
+    }
+
+    /**
+     * プレイヤーを追加する
+     */
+    public synchronized void add(Player player) {
+        Entry[] current = entries;
+        String lowerName = player.getName().toLowerCase();
+        int position = search(current, lowerName);
+        if (position >= 0) {
+            // 同名のエントリは置き換える
+            Entry[] updated = current.clone();
+            updated[position] = new Entry(player.getName(), player.getUniqueId());
+            entries = updated;
+            return;
+        }
+
+        int insertion = -(position + 1);
+        Entry[] updated = new Entry[current.length + 1];
+        System.arraycopy(current, 0, updated, 0, insertion);
+        updated[insertion] = new Entry(player.getName(), player.getUniqueId());
+        System.arraycopy(current, insertion, updated, insertion + 1, current.length - insertion);
+        entries = updated;
+    }
+
+    /**
+     * プレイヤーを削除する
+     */
+    public synchronized void remove(Player player) {
+        Entry[] current = entries;
+        int position = search(current, player.getName().toLowerCase());
+        if (position < 0 || !current[position].uuid.equals(player.getUniqueId())) {
+            return;
+        }
+
+        Entry[] updated = new Entry[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, position);
+        System.arraycopy(current, position + 1, updated, position, current.length - position - 1);
+        entries = updated;
+    }
+
+    /**
+     * 入力に前方一致するプレイヤー名を取得する（名前順）
+     * @param input 入力中の文字列
+     * @return プレイヤー名（元の大文字・小文字を保持）
+     */
+    public List<String> complete(String input) {
+        Entry[] current = entries;
+        String prefix = input.toLowerCase();
+        int from = fromIndex(current, prefix);
+        int to = toIndex(current, prefix, from);
+
+        List<String> names = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            names.add(current[i].name);
+        }
+        return names;
+    }
+
+    /**
+     * オンラインプレイヤーを名前順で取得する
+     * @return オンラインプレイヤー
+     */
+    public List<Player> getPlayers() {
+        Entry[] current = entries;
+        List<Player> players = new ArrayList<>(current.length);
+        for (Entry entry : current) {
+            Player player = Bukkit.getPlayer(entry.uuid);
+            if (player != null) {
+                players.add(player);
+            }
+        }
+        return players;
+    }
+
+    /**
+     * インデックスに登録されているプレイヤー数を取得
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        add(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        remove(event.getPlayer());
+    }
+
+    private static int search(Entry[] entries, String lowerName) {
+        int low = 0;
+        int high = entries.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compare = entries[mid].lowerName.compareTo(lowerName);
+            if (compare < 0) {
+                low = mid + 1;
+            } else if (compare > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int fromIndex(Entry[] entries, String prefix) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].lowerName.compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int toIndex(Entry[] entries, String prefix, int fromIndex) {
+        int low = fromIndex;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].lowerName.startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * インデックスのエントリ
+     */
+    private static final class Entry {
+        private final String name;
+        private final String lowerName;
+        private final UUID uuid;
+
+        private Entry(String name, UUID uuid) {
+            this.name = name;
+            this.lowerName = name.toLowerCase();
+            this.uuid = uuid;
+        }
+    }
+}
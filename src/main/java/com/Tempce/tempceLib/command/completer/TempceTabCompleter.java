@@ -9,6 +9,7 @@ import java.util.List;
 
 /**
  * TempceLibコマンドシステムのタブ補完
+ * CommandManagerごとに1つだけ生成され、すべてのコマンドで共有されます
  */
 public class TempceTabCompleter implements TabCompleter {
     
@@ -20,6 +21,7 @@ public class TempceTabCompleter implements TabCompleter {
 
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        commandManager.getMetrics().recordTabCompletion();
         return commandManager.getTabCompletions(sender, command.getName(), args);
     }
 }
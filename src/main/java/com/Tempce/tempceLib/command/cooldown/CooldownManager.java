@@ -0,0 +1,346 @@
+package com.Tempce.tempceLib.command.cooldown;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * コマンド・サブコマンドのクールダウンを管理するクラス
+ * 送信者はUUID、コマンドは登録時に採番される整数ID（{@link com.Tempce.tempceLib.command.data.CommandIdRegistry}）で管理し、
+ * 判定と記録はCASによる1回のアトミック操作で行うため、非同期スレッドやコンソールからも安全に使用できます
+ * 期限切れのエントリはタイミングホイールにより定期的に削除されます
+ */
+public class CooldownManager {
+
+    private static final int WHEEL_SIZE = 64; // 2の累乗
+    private static final long TICK_MILLIS = 1000L;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final ConcurrentHashMap<String, UUID> nonEntityIds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, SenderCooldowns> cooldowns = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<UUID>[] wheel;
+
+    private long lastTick; // タイマースレッドのみが更新
+    private BukkitTask task;
+
+    @SuppressWarnings("unchecked")
+    public CooldownManager() {
+        wheel = new ConcurrentLinkedQueue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * 期限切れエントリの定期削除を開始する
+     * @param plugin タスクを登録するプラグイン
+     */
+    public void start(Plugin plugin) {
+        stop();
+        long period = TICK_MILLIS / 50L; // ミリ秒 → tick
+        task = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::advance, period, period);
+    }
+
+    /**
+     * 期限切れエントリの定期削除を停止する
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * 送信者のIDを取得する
+     * エンティティ以外（コンソール等）の送信者には名前から生成した固定のUUIDを割り当てます
+     * @param sender コマンド送信者
+     * @return 送信者ID
+     */
+    public UUID getSenderId(CommandSender sender) {
+        if (sender instanceof Entity) {
+            return ((Entity) sender).getUniqueId();
+        }
+        return nonEntityIds.computeIfAbsent(sender.getName(),
+            name -> UUID.nameUUIDFromBytes(("CommandSender:" + name).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * クールダウン中でなければクールダウンを開始する
+     * @param sender コマンド送信者
+     * @param commandId コマンドID
+     * @param durationMillis クールダウン時間（ミリ秒）
+     * @return 開始できた場合は0、クールダウン中の場合は残り時間（ミリ秒）
+     */
+    public long tryAcquire(CommandSender sender, int commandId, long durationMillis) {
+        return tryAcquire(getSenderId(sender), commandId, durationMillis);
+    }
+
+    /**
+     * クールダウン中でなければクールダウンを開始する
+     * @param senderId 送信者ID
+     * @param commandId コマンドID
+     * @param durationMillis クールダウン時間（ミリ秒）
+     * @return 開始できた場合は0、クールダウン中の場合は残り時間（ミリ秒）
+     */
+    public long tryAcquire(UUID senderId, int commandId, long durationMillis) {
+        long now = System.currentTimeMillis();
+        long expiry = now + durationMillis;
+
+        while (true) {
+            SenderCooldowns entry = cooldowns.computeIfAbsent(senderId,
+                id -> new SenderCooldowns(Math.max(INITIAL_CAPACITY, commandId + 1)));
+            AtomicLongArray expiries = entry.ensureCapacity(commandId);
+            long current = expiries.get(commandId);
+            if (current == SenderCooldowns.MOVED) {
+                entry.awaitGrowth(expiries); // 拡張後の配列でやり直す
+                continue;
+            }
+            if (current > now) {
+                return current - now;
+            }
+            if (!expiries.compareAndSet(commandId, current, expiry)) {
+                continue; // 他スレッドが先に更新した、または拡張のために移動された
+            }
+
+            // 削除処理と競合した場合は、エントリが残るか削除されるかが確定するまで待つ
+            if (entry.retired && !awaitRetirement(senderId, entry)) {
+                continue; // 削除されたエントリに書き込んだため新しいエントリでやり直す
+            }
+
+            schedule(senderId, expiry);
+            return 0L;
+        }
+    }
+
+    /**
+     * クールダウンの残り時間を取得する
+     * @param senderId 送信者ID
+     * @param commandId コマンドID
+     * @return 残り時間（ミリ秒、クールダウン中でない場合は0）
+     */
+    public long getRemaining(UUID senderId, int commandId) {
+        SenderCooldowns entry = cooldowns.get(senderId);
+        if (entry == null || commandId < 0) {
+            return 0L;
+        }
+        return Math.max(0L, entry.get(commandId) - System.currentTimeMillis());
+    }
+
+    /**
+     * 特定のコマンドのクールダウンを解除する
+     * @param senderId 送信者ID
+     * @param commandId コマンドID
+     */
+    public void reset(UUID senderId, int commandId) {
+        SenderCooldowns entry = cooldowns.get(senderId);
+        if (entry == null || commandId < 0) {
+            return;
+        }
+        entry.clear(commandId);
+    }
+
+    /**
+     * 送信者のすべてのクールダウンを解除する
+     * @param senderId 送信者ID
+     */
+    public void resetAll(UUID senderId) {
+        cooldowns.remove(senderId);
+    }
+
+    /**
+     * すべてのクールダウンを解除する
+     */
+    public void clear() {
+        cooldowns.clear();
+        for (ConcurrentLinkedQueue<UUID> bucket : wheel) {
+            bucket.clear();
+        }
+    }
+
+    /**
+     * クールダウンを保持している送信者数を取得する
+     */
+    public int getTrackedSenderCount() {
+        return cooldowns.size();
+    }
+
+    /**
+     * 削除中のエントリが確定するまで待つ
+     * @return エントリが残った場合はtrue、削除された場合はfalse
+     */
+    private boolean awaitRetirement(UUID senderId, SenderCooldowns entry) {
+        while (entry.retired) {
+            if (cooldowns.get(senderId) != entry) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    /**
+     * 期限の時刻に対応するタイミングホイールのスロットへ登録する
+     */
+    private void schedule(UUID senderId, long expiry) {
+        long tick = (expiry + TICK_MILLIS - 1) / TICK_MILLIS;
+        wheel[(int) (tick & (WHEEL_SIZE - 1))].offer(senderId);
+    }
+
+    /**
+     * タイミングホイールを現在時刻まで進め、期限切れのエントリを削除する
+     */
+    private void advance() {
+        long now = System.currentTimeMillis();
+        long currentTick = now / TICK_MILLIS;
+        long from = lastTick == 0 ? currentTick : Math.max(lastTick + 1, currentTick - WHEEL_SIZE + 1);
+
+        for (long tick = from; tick <= currentTick; tick++) {
+            ConcurrentLinkedQueue<UUID> bucket = wheel[(int) (tick & (WHEEL_SIZE - 1))];
+            // 処理中に再登録された分は次の周回で処理する
+            for (int remaining = bucket.size(); remaining > 0; remaining--) {
+                UUID senderId = bucket.poll();
+                if (senderId == null) {
+                    break;
+                }
+                evictIfExpired(senderId, now);
+            }
+        }
+        lastTick = currentTick;
+    }
+
+    /**
+     * 送信者のクールダウンがすべて期限切れであればエントリを削除する
+     */
+    private void evictIfExpired(UUID senderId, long now) {
+        SenderCooldowns entry = cooldowns.get(senderId);
+        if (entry == null) {
+            return;
+        }
+
+        long latest = entry.latestExpiry();
+        if (latest > now) {
+            schedule(senderId, latest); // ホイール1周より長いクールダウン
+            return;
+        }
+
+        // 削除中であることを公開してから再確認し、並行して書き込まれた値を取りこぼさないようにする
+        entry.retired = true;
+        if (entry.latestExpiry() <= now) {
+            cooldowns.remove(senderId, entry);
+        } else {
+            entry.retired = false;
+        }
+    }
+
+    /**
+     * 送信者ごとのクールダウン期限（コマンドIDで添字付け）
+     * 配列の拡張時は旧配列の各要素を {@link #MOVED} に置き換えながら移すため、
+     * 旧配列へのCASは移動前に成功して値が引き継がれるか、移動後に失敗して新しい配列でやり直すかのどちらかになります
+     */
+    private static final class SenderCooldowns {
+        /** 拡張後の配列に移動済みの要素（CASを失敗させ、新しい配列で再試行させる） */
+        private static final long MOVED = Long.MIN_VALUE;
+
+        private volatile AtomicLongArray expiries;
+        private volatile boolean retired;
+
+        private SenderCooldowns(int capacity) {
+            this.expiries = new AtomicLongArray(capacity);
+        }
+
+        /**
+         * 指定の添字を格納できる配列を取得し、不足する場合は拡張する
+         */
+        private AtomicLongArray ensureCapacity(int index) {
+            AtomicLongArray current = expiries;
+            if (index < current.length()) {
+                return current;
+            }
+            synchronized (this) {
+                current = expiries;
+                if (index >= current.length()) {
+                    AtomicLongArray grown = new AtomicLongArray(Math.max(current.length() * 2, index + 1));
+                    for (int i = 0; i < current.length(); i++) {
+                        grown.set(i, current.getAndSet(i, MOVED));
+                    }
+                    expiries = grown;
+                    current = grown;
+                }
+                return current;
+            }
+        }
+
+        /**
+         * 拡張中の配列が新しい配列に置き換わるまで待つ
+         */
+        private void awaitGrowth(AtomicLongArray moving) {
+            while (expiries == moving) {
+                Thread.onSpinWait();
+            }
+        }
+
+        /**
+         * 期限を取得する
+         */
+        private long get(int index) {
+            while (true) {
+                AtomicLongArray current = expiries;
+                if (index >= current.length()) {
+                    return 0L;
+                }
+                long value = current.get(index);
+                if (value != MOVED) {
+                    return value;
+                }
+                awaitGrowth(current);
+            }
+        }
+
+        /**
+         * 期限を解除する
+         */
+        private void clear(int index) {
+            while (true) {
+                AtomicLongArray current = expiries;
+                if (index >= current.length()) {
+                    return;
+                }
+                long value = current.get(index);
+                if (value == MOVED) {
+                    awaitGrowth(current);
+                } else if (current.compareAndSet(index, value, 0L)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 最も遅い期限を取得する
+         */
+        private long latestExpiry() {
+            while (true) {
+                AtomicLongArray current = expiries;
+                long latest = 0L;
+                boolean moved = false;
+                for (int i = 0; i < current.length() && !moved; i++) {
+                    long value = current.get(i);
+                    moved = value == MOVED;
+                    latest = Math.max(latest, value);
+                }
+                if (!moved) {
+                    return latest;
+                }
+                awaitGrowth(current);
+            }
+        }
+    }
+}
@@ -14,10 +14,17 @@ public class ArgumentData {
     private final List<String> suggestions;
     private final double min;
     private final double max;
+    private final String provider;
     
     public ArgumentData(String name, ArgumentType type, String description, 
                        boolean required, String defaultValue, List<String> suggestions,
                        double min, double max) {
+        this(name, type, description, required, defaultValue, suggestions, min, max, "");
+    }
+    
+    public ArgumentData(String name, ArgumentType type, String description, 
+                       boolean required, String defaultValue, List<String> suggestions,
+                       double min, double max, String provider) {
         this.name = name;
         this.type = type;
         this.description = description;
@@ -26,6 +33,7 @@ public class ArgumentData {
         this.suggestions = suggestions;
         this.min = min;
         this.max = max;
+        this.provider = provider;
     }
     
     public String getName() {
@@ -60,6 +68,14 @@ public class ArgumentData {
         return max;
     }
     
+    /**
+     * 補完候補プロバイダーの登録名を取得
+     * @return 登録名（指定がない場合は空文字）
+     */
+    public String getProvider() {
+        return provider;
+    }
+    
     /**
      * 引数が数値型かどうかを判定
      */
@@ -76,6 +92,6 @@ public class ArgumentData {
         return type == ArgumentType.ONLINE_PLAYER || type == ArgumentType.ALL_PLAYER || 
                type == ArgumentType.WORLD || type == ArgumentType.ITEM_ID || 
                type == ArgumentType.ENCHANTMENT || type == ArgumentType.POTION_EFFECT || 
-               type == ArgumentType.BOOLEAN || !suggestions.isEmpty();
+               type == ArgumentType.BOOLEAN || !suggestions.isEmpty() || !provider.isEmpty();
     }
 }
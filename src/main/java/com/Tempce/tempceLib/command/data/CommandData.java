@@ -1,7 +1,12 @@
 package com.Tempce.tempceLib.command.data;
 
+import com.Tempce.tempceLib.command.helper.CommandHelp;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * コマンドの情報を保持するクラス
@@ -15,10 +20,29 @@ public class CommandData {
     private final String usage;
     private final Object instance;
     private final Map<String, SubCommandData> subCommands;
+    private final CommandNode commandTree;
+    private final int commandId;
+    private final SortedPrefixIndex<SubCommandData> subCommandIndex;
+    private final CommandHelp help;
     
     public CommandData(String name, String permission, List<String> aliases, 
                       int timeout, String description, String usage, 
                       Object instance, Map<String, SubCommandData> subCommands) {
+        this(name, permission, aliases, timeout, description, usage, instance, subCommands,
+            CommandNode.compile(subCommands));
+    }
+    
+    public CommandData(String name, String permission, List<String> aliases, 
+                      int timeout, String description, String usage, 
+                      Object instance, Map<String, SubCommandData> subCommands,
+                      CommandNode commandTree) {
+        this(name, permission, aliases, timeout, description, usage, instance, subCommands, commandTree, -1);
+    }
+    
+    public CommandData(String name, String permission, List<String> aliases, 
+                      int timeout, String description, String usage, 
+                      Object instance, Map<String, SubCommandData> subCommands,
+                      CommandNode commandTree, int commandId) {
         this.name = name;
         this.permission = permission;
         this.aliases = aliases;
@@ -27,6 +51,32 @@ public class CommandData {
         this.usage = usage;
         this.instance = instance;
         this.subCommands = subCommands;
+        this.commandTree = commandTree;
+        this.commandId = commandId;
+        this.subCommandIndex = buildSubCommandIndex(subCommands);
+        this.help = CommandHelp.compile(name, description, subCommands);
+    }
+    
+    /**
+     * 第1レベルのサブコマンド名とエイリアスの前方一致インデックスを構築する
+     * 同じキーに複数のサブコマンドが対応する場合はすべて登録します（権限判定のため）
+     */
+    private static SortedPrefixIndex<SubCommandData> buildSubCommandIndex(Map<String, SubCommandData> subCommands) {
+        SortedPrefixIndex.Builder<SubCommandData> builder = SortedPrefixIndex.builder();
+        // エイリアスのエントリは同じインスタンスを指すため、インスタンス単位で重複を除く
+        Set<SubCommandData> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (SubCommandData subCommand : subCommands.values()) {
+            if (!seen.add(subCommand)) {
+                continue;
+            }
+            builder.add(subCommand.getFirstLevelName(), subCommand);
+            for (String alias : subCommand.getAliasSet()) {
+                if (!alias.equals(subCommand.getFirstLevelName())) {
+                    builder.add(alias, subCommand);
+                }
+            }
+        }
+        return builder.build();
     }
     
     public String getName() {
@@ -60,4 +110,34 @@ public class CommandData {
     public Map<String, SubCommandData> getSubCommands() {
         return subCommands;
     }
+    
+    /**
+     * サブコマンドのルーティングトライ木（ルートノード）を取得
+     */
+    public CommandNode getCommandTree() {
+        return commandTree;
+    }
+    
+    /**
+     * コマンド自体のコマンドIDを取得
+     * @return コマンドID（未採番の場合は-1）
+     */
+    public int getCommandId() {
+        return commandId;
+    }
+    
+    /**
+     * 第1レベルのサブコマンド名とエイリアスの前方一致インデックスを取得
+     * キーは小文字で、値はそのキーで呼び出せるサブコマンドです
+     */
+    public SortedPrefixIndex<SubCommandData> getSubCommandIndex() {
+        return subCommandIndex;
+    }
+    
+    /**
+     * 登録時に組み立てられたコマンドの概要の表示行を取得
+     */
+    public CommandHelp getHelp() {
+        return help;
+    }
 }
@@ -0,0 +1,44 @@
+package com.Tempce.tempceLib.command.data;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * コマンド・サブコマンドに整数IDを採番するクラス
+ * クールダウンや実行統計などのコマンドごとの状態は、このIDを添字として管理されます
+ */
+public class CommandIdRegistry {
+    
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Integer>> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    
+    /**
+     * コマンドIDを取得し、未登録の場合は採番する
+     * @param commandName コマンド名（小文字）
+     * @param path サブコマンドの正規化パス（コマンド自体の場合は空文字）
+     * @return コマンドID
+     */
+    public int getId(String commandName, String path) {
+        return ids.computeIfAbsent(commandName, name -> new ConcurrentHashMap<>())
+            .computeIfAbsent(path, key -> nextId.getAndIncrement());
+    }
+    
+    /**
+     * 採番済みのコマンドIDを取得する
+     * @param commandName コマンド名（小文字）
+     * @param path サブコマンドの正規化パス（コマンド自体の場合は空文字）
+     * @return コマンドID（未採番の場合は-1）
+     */
+    public int findId(String commandName, String path) {
+        ConcurrentHashMap<String, Integer> paths = ids.get(commandName);
+        Integer id = paths != null ? paths.get(path) : null;
+        return id != null ? id : -1;
+    }
+    
+    /**
+     * 採番済みのID数を取得する
+     */
+    public int size() {
+        return nextId.get();
+    }
+}
@@ -0,0 +1,301 @@
+package com.Tempce.tempceLib.command.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * サブコマンドのルーティング用トライ木のノード
+ * パスの各レベル（"."区切り）を1ノードとし、大文字小文字を区別せずに辿ることができます
+ * 各ノードは配下のサブコマンドの権限と権限ごとのサブコマンド数を事前に集約しており、
+ * タブ補完や部分パスのヘルプでは子ノードを辿らずに表示可否・コマンド数を判定できます
+ */
+public class CommandNode {
+    private final String name;
+    private final int depth;
+    private final TreeMap<String, CommandNode> children = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Map<String, CommandNode> aliases = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private SubCommandData subCommand;
+    private int commandId = -1;
+    private List<String> subtreePermissions = Collections.emptyList();
+    private int descendantCount;
+    private String[] descendantPermissions = new String[0];
+    private int[] descendantPermissionCounts = new int[0];
+
+    private CommandNode(String name, int depth) {
+        this.name = name;
+        this.depth = depth;
+    }
+
+    /**
+     * サブコマンドマップからルーティングトライ木を構築する
+     * 第1レベルのサブコマンドのエイリアスもルート直下に登録されます
+     * @param subCommands サブコマンドマップ
+     * @return ルートノード
+     */
+    public static CommandNode compile(Map<String, SubCommandData> subCommands) {
+        return compile(subCommands, subCommandData -> -1);
+    }
+    
+    /**
+     * サブコマンドマップからルーティングトライ木を構築し、各サブコマンドにコマンドIDを割り当てる
+     * @param subCommands サブコマンドマップ
+     * @param idAllocator サブコマンドからコマンドIDを採番する関数
+     * @return ルートノード
+     */
+    public static CommandNode compile(Map<String, SubCommandData> subCommands, ToIntFunction<SubCommandData> idAllocator) {
+        CommandNode root = new CommandNode("", 0);
+
+        // エイリアスのキーで同じインスタンスが複数回含まれるため重複を除去
+        Set<SubCommandData> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(subCommands.values());
+
+        for (SubCommandData subCommandData : distinct) {
+            CommandNode node = root;
+            for (String level : subCommandData.getSegments()) {
+                node = node.getOrCreateChild(level);
+            }
+            node.subCommand = subCommandData;
+            node.commandId = idAllocator.applyAsInt(subCommandData);
+        }
+
+        // エイリアスの登録（第1レベルのみ対象）
+        for (SubCommandData subCommandData : distinct) {
+            if (subCommandData.getDepth() != 1) {
+                continue;
+            }
+            CommandNode target = root.children.get(subCommandData.getFirstLevelName());
+            for (String alias : subCommandData.getAliasSet()) {
+                if (!root.children.containsKey(alias)) {
+                    root.aliases.putIfAbsent(alias, target);
+                }
+            }
+        }
+
+        root.collectPermissions();
+        root.collectDescendantCounts();
+        return root;
+    }
+
+    /**
+     * 配下のサブコマンドの権限を集約する（構築時のみ使用）
+     */
+    private Set<String> collectPermissions() {
+        Set<String> permissions = new LinkedHashSet<>();
+        if (subCommand != null) {
+            permissions.add(subCommand.getPermission());
+        }
+        for (CommandNode child : children.values()) {
+            permissions.addAll(child.collectPermissions());
+        }
+        // 権限が不要なサブコマンドがあれば、常に表示できる
+        subtreePermissions = permissions.contains("")
+            ? Collections.singletonList("") : Collections.unmodifiableList(new ArrayList<>(permissions));
+        return permissions;
+    }
+
+    /**
+     * 配下のサブコマンド数を権限ごとに集計する（構築時のみ使用）
+     * @return このノードを含むサブコマンド数（権限ごと）
+     */
+    private Map<String, Integer> collectDescendantCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (CommandNode child : children.values()) {
+            child.collectDescendantCounts().forEach((permission, count) -> counts.merge(permission, count, Integer::sum));
+        }
+
+        descendantPermissions = new String[counts.size()];
+        descendantPermissionCounts = new int[counts.size()];
+        descendantCount = 0;
+        int index = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            descendantPermissions[index] = entry.getKey();
+            descendantPermissionCounts[index] = entry.getValue();
+            descendantCount += entry.getValue();
+            index++;
+        }
+
+        if (subCommand != null) {
+            counts.merge(subCommand.getPermission(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * 子ノードを取得し、存在しない場合は作成する（構築時のみ使用）
+     */
+    private CommandNode getOrCreateChild(String segment) {
+        CommandNode child = children.get(segment);
+        if (child == null) {
+            child = new CommandNode(segment.toLowerCase(), depth + 1);
+            children.put(segment, child);
+        }
+        return child;
+    }
+
+    /**
+     * ノード名（パスの1レベル分、小文字）を取得
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * ルートからの深さを取得（ルートは0）
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * このノードで終端するサブコマンドを取得
+     * @return サブコマンドデータ（中間ノードの場合はnull）
+     */
+    public SubCommandData getSubCommand() {
+        return subCommand;
+    }
+
+    /**
+     * このノードで終端するサブコマンドのコマンドIDを取得
+     * @return コマンドID（未採番の場合は-1）
+     */
+    public int getCommandId() {
+        return commandId;
+    }
+    
+    /**
+     * このノードで終端するサブコマンドがあるかどうか
+     */
+    public boolean isExecutable() {
+        return subCommand != null;
+    }
+
+    /**
+     * 子ノードがあるかどうか
+     */
+    public boolean hasChildren() {
+        return !children.isEmpty();
+    }
+
+    /**
+     * 子ノードのない末端のノードかどうか
+     */
+    public boolean isLeaf() {
+        return children.isEmpty();
+    }
+
+    /**
+     * 配下（このノード自体を除く）のサブコマンド数を取得
+     */
+    public int getDescendantCount() {
+        return descendantCount;
+    }
+
+    /**
+     * 配下（このノード自体を除く）のサブコマンドのうち、権限のあるものの数を数える
+     * 権限ごとに事前集計した数を合計するため、配下のノードは辿りません
+     * @param permitted 権限を持っているかの判定（空文字は権限不要）
+     * @return サブコマンド数
+     */
+    public int countDescendants(Predicate<String> permitted) {
+        int count = 0;
+        for (int i = 0; i < descendantPermissions.length; i++) {
+            if (permitted.test(descendantPermissions[i])) {
+                count += descendantPermissionCounts[i];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 子ノードを名前順で取得（エイリアスは含まない）
+     */
+    public Collection<CommandNode> getChildren() {
+        return Collections.unmodifiableCollection(children.values());
+    }
+
+    /**
+     * 名前が前方一致する子ノードを名前順で取得（エイリアスは含まない）
+     * @param prefix 接頭辞（小文字）
+     * @return 子ノード
+     */
+    public Collection<CommandNode> getChildrenWithPrefix(String prefix) {
+        if (prefix.isEmpty()) {
+            return getChildren();
+        }
+        return Collections.unmodifiableCollection(children.subMap(prefix, true, prefix + Character.MAX_VALUE, true).values());
+    }
+
+    /**
+     * このノードと配下のサブコマンドの権限を取得（重複なし）
+     * いずれかの権限を持っていれば、このノードを補完候補として表示できます（空文字は権限不要）
+     */
+    public List<String> getSubtreePermissions() {
+        return subtreePermissions;
+    }
+
+    /**
+     * 子ノードを取得する（大文字小文字を区別しない、エイリアスも対象）
+     * @param segment パスの1レベル分
+     * @return 子ノード（見つからない場合はnull）
+     */
+    public CommandNode getChild(String segment) {
+        CommandNode child = children.get(segment);
+        if (child == null && !aliases.isEmpty()) {
+            child = aliases.get(segment);
+        }
+        return child;
+    }
+
+    /**
+     * 引数の先頭から指定数のレベルを辿ったノードを取得する
+     * @param args 引数
+     * @param length 辿るレベル数
+     * @return ノード（パスが存在しない場合はnull）
+     */
+    public CommandNode find(String[] args, int length) {
+        CommandNode node = this;
+        for (int i = 0; i < length && node != null; i++) {
+            node = node.getChild(args[i]);
+        }
+        return node;
+    }
+
+    /**
+     * 引数に最長一致するサブコマンドを検索する
+     * @param args 引数
+     * @return サブコマンドデータ（見つからない場合はnull）
+     */
+    public SubCommandData findLongestMatch(String[] args) {
+        CommandNode match = findLongestMatchNode(args);
+        return match != null ? match.subCommand : null;
+    }
+    
+    /**
+     * 引数に最長一致するサブコマンドのノードを検索する
+     * @param args 引数
+     * @return 実行可能なノード（見つからない場合はnull）
+     */
+    public CommandNode findLongestMatchNode(String[] args) {
+        CommandNode bestMatch = null;
+        CommandNode node = this;
+        for (String arg : args) {
+            node = node.getChild(arg);
+            if (node == null) {
+                break;
+            }
+            if (node.subCommand != null) {
+                bestMatch = node;
+            }
+        }
+        return bestMatch;
+    }
+}
@@ -0,0 +1,386 @@
+package com.Tempce.tempceLib.command.data;
+
+import org.bukkit.Material;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 引数タイプごとのマテリアル一覧
+ * 起動時に一度だけ構築し、マテリアル配列・小文字のID・前方一致インデックスを保持します
+ * タブ補完（{@link com.Tempce.tempceLib.command.completer.ArgumentTabCompleter}）と
+ * アイテム選択GUIの両方で共有されます
+ *
+ * 補完では、IDの前方一致に加えて「_」で区切られた単語の前方一致（例: pick → diamond_pickaxe）も
+ * 単語インデックスで検索し、前方一致 → 単語一致の順にID順で返します
+ */
+public final class MaterialCatalog {
+
+    private static final Map<ArgumentType, MaterialCatalog> CATALOGS = new EnumMap<>(ArgumentType.class);
+    private static final MaterialCatalog ALL;
+
+    static {
+        for (ArgumentType type : ArgumentType.values()) {
+            if (type.name().startsWith("ITEM_ID_")) {
+                CATALOGS.put(type, new MaterialCatalog(type, materialsOf(type)));
+            }
+        }
+        // 全アイテムはレガシーマテリアルとアイテムとして扱えないマテリアルを除外する
+        ALL = new MaterialCatalog(ArgumentType.ITEM_ID, Arrays.stream(Material.values())
+            .filter(material -> !material.isLegacy() && material.isItem())
+            .toArray(Material[]::new));
+        CATALOGS.put(ArgumentType.ITEM_ID, ALL);
+    }
+
+    private final ArgumentType type;
+    private final Material[] materials;
+    private final String[] ids;
+    private final List<Material> materialList;
+    private final List<Material> itemMaterials;
+    private final SortedPrefixIndex<Material> index;
+    private final SortedPrefixIndex<String> tokenIndex;
+
+    private MaterialCatalog(ArgumentType type, Material[] materials) {
+        this.type = type;
+        this.materials = materials;
+        this.ids = new String[materials.length];
+        this.materialList = Collections.unmodifiableList(Arrays.asList(materials));
+
+        List<Material> items = new ArrayList<>();
+        SortedPrefixIndex.Builder<Material> builder = SortedPrefixIndex.builder();
+        for (int i = 0; i < materials.length; i++) {
+            Material material = materials[i];
+            ids[i] = idOf(type, material);
+            builder.add(ids[i], material);
+            if (material.isItem()) {
+                items.add(material);
+            }
+        }
+        this.itemMaterials = Collections.unmodifiableList(items);
+        this.index = builder.build();
+        this.tokenIndex = buildTokenIndex(index);
+    }
+
+    /**
+     * 単語インデックスを構築する
+     * 2番目以降の単語から始まる部分文字列をキー、IDを値として登録します（同じキーはID順）
+     */
+    private static SortedPrefixIndex<String> buildTokenIndex(SortedPrefixIndex<Material> index) {
+        SortedPrefixIndex.Builder<String> builder = SortedPrefixIndex.builder();
+        for (int i = 0; i < index.size(); i++) {
+            String id = index.getKey(i);
+            for (int pos = id.indexOf('_'); pos >= 0 && pos + 1 < id.length(); pos = id.indexOf('_', pos + 1)) {
+                builder.add(id.substring(pos + 1), id);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 引数タイプに対応するカタログを取得する
+     * @param type 引数タイプ（アイテムID系以外の場合は全マテリアル）
+     * @return カタログ
+     */
+    public static MaterialCatalog of(ArgumentType type) {
+        MaterialCatalog catalog = CATALOGS.get(type);
+        return catalog != null ? catalog : ALL;
+    }
+
+    /**
+     * 引数タイプを取得
+     */
+    public ArgumentType getType() {
+        return type;
+    }
+
+    /**
+     * マテリアル数を取得
+     */
+    public int size() {
+        return materials.length;
+    }
+
+    /**
+     * 指定位置のマテリアルを取得（定義順）
+     */
+    public Material getMaterial(int index) {
+        return materials[index];
+    }
+
+    /**
+     * 指定位置のマテリアルの補完用ID（小文字）を取得（定義順）
+     */
+    public String getId(int index) {
+        return ids[index];
+    }
+
+    /**
+     * マテリアル一覧を取得（定義順・変更不可）
+     */
+    public List<Material> getMaterials() {
+        return materialList;
+    }
+
+    /**
+     * アイテムとして扱えるマテリアルのみの一覧を取得（定義順・変更不可）
+     * 選択GUIのアイコンに使用します
+     */
+    public List<Material> getItemMaterials() {
+        return itemMaterials;
+    }
+
+    /**
+     * 補完用IDの前方一致インデックスを取得
+     */
+    public SortedPrefixIndex<Material> getIndex() {
+        return index;
+    }
+
+    /**
+     * 入力に一致する補完候補を取得する
+     * IDの前方一致をID順に返し、上限に満たない場合は単語の前方一致を続けて返します
+     * @param input 入力中の文字列
+     * @param limit 候補数の上限
+     * @return 補完候補
+     */
+    public List<String> complete(String input, int limit) {
+        String prefix = input.toLowerCase();
+        List<String> completions = new ArrayList<>(Math.min(limit, 32));
+
+        int from = index.fromIndex(prefix);
+        int to = index.toIndex(prefix, from);
+        for (int i = from; i < to && completions.size() < limit; i++) {
+            completions.add(index.getKey(i));
+        }
+        if (prefix.isEmpty() || completions.size() >= limit) {
+            return completions;
+        }
+
+        // 単語一致（前方一致で追加済みのIDと、複数の単語で一致したIDは除く）
+        HashSet<String> added = new HashSet<>();
+        from = tokenIndex.fromIndex(prefix);
+        to = tokenIndex.toIndex(prefix, from);
+        for (int i = from; i < to && completions.size() < limit; i++) {
+            String id = tokenIndex.getValue(i);
+            if (!id.startsWith(prefix) && added.add(id)) {
+                completions.add(id);
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * 補完用IDを取得する
+     * ブロック系ではバケツアイテムを液体ブロック名で補完します
+     */
+    private static String idOf(ArgumentType type, Material material) {
+        if (type == ArgumentType.ITEM_ID_BLOCK && material == Material.WATER_BUCKET) {
+            return "water";
+        }
+        if (type == ArgumentType.ITEM_ID_BLOCK && material == Material.LAVA_BUCKET) {
+            return "lava";
+        }
+        return material.name().toLowerCase();
+    }
+
+    /**
+     * アイテムタイプ別のマテリアル配列を取得
+     */
+    private static Material[] materialsOf(ArgumentType type) {
+        return switch (type) {
+            case ITEM_ID_TOOL -> new Material[]{
+                // ツール類 - 全ツール
+                Material.DIAMOND_PICKAXE, Material.DIAMOND_AXE, Material.DIAMOND_SHOVEL, Material.DIAMOND_HOE, Material.DIAMOND_SWORD,
+                Material.IRON_PICKAXE, Material.IRON_AXE, Material.IRON_SHOVEL, Material.IRON_HOE, Material.IRON_SWORD,
+                Material.GOLDEN_PICKAXE, Material.GOLDEN_AXE, Material.GOLDEN_SHOVEL, Material.GOLDEN_HOE, Material.GOLDEN_SWORD,
+                Material.STONE_PICKAXE, Material.STONE_AXE, Material.STONE_SHOVEL, Material.STONE_HOE, Material.STONE_SWORD,
+                Material.WOODEN_PICKAXE, Material.WOODEN_AXE, Material.WOODEN_SHOVEL, Material.WOODEN_HOE, Material.WOODEN_SWORD,
+                Material.NETHERITE_PICKAXE, Material.NETHERITE_AXE, Material.NETHERITE_SHOVEL, Material.NETHERITE_HOE, Material.NETHERITE_SWORD,
+                Material.SHEARS, Material.FLINT_AND_STEEL, Material.FISHING_ROD, Material.COMPASS, Material.CLOCK,
+                Material.BOW, Material.CROSSBOW, Material.TRIDENT, Material.SHIELD, Material.CARROT_ON_A_STICK,
+                Material.WARPED_FUNGUS_ON_A_STICK, Material.LEAD, Material.NAME_TAG, Material.SPYGLASS,
+                Material.BRUSH, Material.RECOVERY_COMPASS
+            };
+            
+            case ITEM_ID_BLOCK -> new Material[]{
+                // ブロック系 - 全ブロック
+                // 石系
+                Material.STONE, Material.COBBLESTONE, Material.GRANITE, Material.DIORITE, Material.ANDESITE,
+                Material.POLISHED_GRANITE, Material.POLISHED_DIORITE, Material.POLISHED_ANDESITE,
+                Material.DEEPSLATE, Material.COBBLED_DEEPSLATE, Material.POLISHED_DEEPSLATE, Material.DEEPSLATE_BRICKS,
+                Material.CRACKED_DEEPSLATE_BRICKS, Material.DEEPSLATE_TILES, Material.CRACKED_DEEPSLATE_TILES,
+                Material.TUFF, Material.CALCITE, Material.SMOOTH_BASALT, Material.BASALT, Material.POLISHED_BASALT,
+                // ネザー系
+                Material.NETHERRACK, Material.SOUL_SAND, Material.SOUL_SOIL, Material.BLACKSTONE, Material.POLISHED_BLACKSTONE,
+                Material.GILDED_BLACKSTONE,
+                Material.NETHER_BRICKS, Material.CRACKED_NETHER_BRICKS, Material.CHISELED_NETHER_BRICKS, Material.RED_NETHER_BRICKS,
+                Material.NETHER_WART_BLOCK, Material.WARPED_WART_BLOCK, Material.SHROOMLIGHT,
+                // エンド系
+                Material.END_STONE, Material.END_STONE_BRICKS, Material.PURPUR_BLOCK, Material.PURPUR_PILLAR,
+                Material.CHORUS_PLANT, Material.CHORUS_FLOWER,
+                // 砂岩系
+                Material.SANDSTONE, Material.CHISELED_SANDSTONE, Material.CUT_SANDSTONE, Material.SMOOTH_SANDSTONE,
+                Material.RED_SANDSTONE, Material.CHISELED_RED_SANDSTONE, Material.CUT_RED_SANDSTONE, Material.SMOOTH_RED_SANDSTONE,
+                // クォーツ系
+                Material.QUARTZ_BLOCK, Material.CHISELED_QUARTZ_BLOCK, Material.QUARTZ_PILLAR, Material.SMOOTH_QUARTZ,
+                Material.QUARTZ_BRICKS,
+                // プリズマリン系
+                Material.PRISMARINE, Material.PRISMARINE_BRICKS, Material.DARK_PRISMARINE,
+                // レンガ系
+                Material.BRICKS, Material.MOSSY_COBBLESTONE, Material.MOSSY_STONE_BRICKS, Material.INFESTED_STONE,
+                Material.STONE_BRICKS, Material.CRACKED_STONE_BRICKS, Material.CHISELED_STONE_BRICKS,
+                // その他
+                Material.OBSIDIAN, Material.CRYING_OBSIDIAN, Material.BEDROCK, Material.BARRIER, Material.STRUCTURE_VOID,
+                Material.MAGMA_BLOCK, Material.BONE_BLOCK, Material.DRIED_KELP_BLOCK, Material.HAY_BLOCK,
+                Material.TARGET, Material.LODESTONE, Material.RESPAWN_ANCHOR, Material.ANCIENT_DEBRIS,
+                // 液体ブロック（バケツとして表示）
+                Material.WATER_BUCKET, Material.LAVA_BUCKET
+            };
+            
+            case ITEM_ID_NATURE_BLOCK -> new Material[]{
+                // 自然ブロック - 全自然ブロック
+                // 土系
+                Material.DIRT, Material.COARSE_DIRT, Material.PODZOL, Material.MYCELIUM, Material.GRASS_BLOCK,
+                Material.DIRT_PATH, Material.FARMLAND, Material.ROOTED_DIRT, Material.MUD, Material.MUDDY_MANGROVE_ROOTS,
+                // 砂・砂利系
+                Material.SAND, Material.RED_SAND, Material.GRAVEL, Material.SUSPICIOUS_SAND, Material.SUSPICIOUS_GRAVEL,
+                // 粘土・テラコッタ系
+                Material.CLAY, Material.TERRACOTTA, Material.WHITE_TERRACOTTA, Material.ORANGE_TERRACOTTA,
+                Material.MAGENTA_TERRACOTTA, Material.LIGHT_BLUE_TERRACOTTA, Material.YELLOW_TERRACOTTA,
+                Material.LIME_TERRACOTTA, Material.PINK_TERRACOTTA, Material.GRAY_TERRACOTTA,
+                Material.LIGHT_GRAY_TERRACOTTA, Material.CYAN_TERRACOTTA, Material.PURPLE_TERRACOTTA,
+                Material.BLUE_TERRACOTTA, Material.BROWN_TERRACOTTA, Material.GREEN_TERRACOTTA,
+                Material.RED_TERRACOTTA, Material.BLACK_TERRACOTTA,
+                // 氷系
+                Material.ICE, Material.PACKED_ICE, Material.BLUE_ICE, Material.SNOW_BLOCK, Material.POWDER_SNOW,
+                // 原木系
+                Material.OAK_LOG, Material.BIRCH_LOG, Material.SPRUCE_LOG, Material.JUNGLE_LOG,
+                Material.ACACIA_LOG, Material.DARK_OAK_LOG, Material.MANGROVE_LOG, Material.CHERRY_LOG,
+                Material.STRIPPED_OAK_LOG, Material.STRIPPED_BIRCH_LOG, Material.STRIPPED_SPRUCE_LOG,
+                Material.STRIPPED_JUNGLE_LOG, Material.STRIPPED_ACACIA_LOG, Material.STRIPPED_DARK_OAK_LOG,
+                Material.STRIPPED_MANGROVE_LOG, Material.STRIPPED_CHERRY_LOG,
+                // 木材系
+                Material.OAK_WOOD, Material.BIRCH_WOOD, Material.SPRUCE_WOOD, Material.JUNGLE_WOOD,
+                Material.ACACIA_WOOD, Material.DARK_OAK_WOOD, Material.MANGROVE_WOOD, Material.CHERRY_WOOD,
+                Material.STRIPPED_OAK_WOOD, Material.STRIPPED_BIRCH_WOOD, Material.STRIPPED_SPRUCE_WOOD,
+                Material.STRIPPED_JUNGLE_WOOD, Material.STRIPPED_ACACIA_WOOD, Material.STRIPPED_DARK_OAK_WOOD,
+                Material.STRIPPED_MANGROVE_WOOD, Material.STRIPPED_CHERRY_WOOD,
+                // 葉系
+                Material.OAK_LEAVES, Material.BIRCH_LEAVES, Material.SPRUCE_LEAVES, Material.JUNGLE_LEAVES,
+                Material.ACACIA_LEAVES, Material.DARK_OAK_LEAVES, Material.MANGROVE_LEAVES, Material.CHERRY_LEAVES,
+                Material.AZALEA_LEAVES, Material.FLOWERING_AZALEA_LEAVES,
+                // 鉱石系
+                Material.COAL_ORE, Material.DEEPSLATE_COAL_ORE, Material.IRON_ORE, Material.DEEPSLATE_IRON_ORE,
+                Material.COPPER_ORE, Material.DEEPSLATE_COPPER_ORE, Material.GOLD_ORE, Material.DEEPSLATE_GOLD_ORE,
+                Material.REDSTONE_ORE, Material.DEEPSLATE_REDSTONE_ORE, Material.LAPIS_ORE, Material.DEEPSLATE_LAPIS_ORE,
+                Material.DIAMOND_ORE, Material.DEEPSLATE_DIAMOND_ORE, Material.EMERALD_ORE, Material.DEEPSLATE_EMERALD_ORE,
+                Material.NETHER_GOLD_ORE, Material.NETHER_QUARTZ_ORE,
+                // その他自然ブロック
+                Material.WATER, Material.LAVA, Material.SEAGRASS, Material.TALL_SEAGRASS, Material.KELP, Material.KELP_PLANT,
+                Material.SPONGE, Material.WET_SPONGE,
+                Material.TUBE_CORAL_BLOCK, Material.BRAIN_CORAL_BLOCK, Material.BUBBLE_CORAL_BLOCK,
+                Material.FIRE_CORAL_BLOCK, Material.HORN_CORAL_BLOCK, Material.DEAD_TUBE_CORAL_BLOCK,
+                Material.DEAD_BRAIN_CORAL_BLOCK, Material.DEAD_BUBBLE_CORAL_BLOCK, Material.DEAD_FIRE_CORAL_BLOCK,
+                Material.DEAD_HORN_CORAL_BLOCK
+            };
+            
+            case ITEM_ID_WEAPON_ARMOR -> new Material[]{
+                // 武器・防具 - 全武器防具
+                // 剣類
+                Material.DIAMOND_SWORD, Material.IRON_SWORD, Material.GOLDEN_SWORD, Material.STONE_SWORD, 
+                Material.WOODEN_SWORD, Material.NETHERITE_SWORD,
+                // 遠距離武器
+                Material.BOW, Material.CROSSBOW, Material.TRIDENT, Material.SHIELD,
+                // ダイヤモンド防具
+                Material.DIAMOND_HELMET, Material.DIAMOND_CHESTPLATE, Material.DIAMOND_LEGGINGS, Material.DIAMOND_BOOTS,
+                // 鉄防具
+                Material.IRON_HELMET, Material.IRON_CHESTPLATE, Material.IRON_LEGGINGS, Material.IRON_BOOTS,
+                // 金防具
+                Material.GOLDEN_HELMET, Material.GOLDEN_CHESTPLATE, Material.GOLDEN_LEGGINGS, Material.GOLDEN_BOOTS,
+                // 革防具
+                Material.LEATHER_HELMET, Material.LEATHER_CHESTPLATE, Material.LEATHER_LEGGINGS, Material.LEATHER_BOOTS,
+                // ネザライト防具
+                Material.NETHERITE_HELMET, Material.NETHERITE_CHESTPLATE, Material.NETHERITE_LEGGINGS, Material.NETHERITE_BOOTS,
+                // チェーンメイル防具
+                Material.CHAINMAIL_HELMET, Material.CHAINMAIL_CHESTPLATE, Material.CHAINMAIL_LEGGINGS, Material.CHAINMAIL_BOOTS,
+                // タートルヘルメット
+                Material.TURTLE_HELMET,
+                // エリトラ
+                Material.ELYTRA,
+                // 矢
+                Material.ARROW, Material.SPECTRAL_ARROW, Material.TIPPED_ARROW
+            };
+            
+            case ITEM_ID_FOOD -> new Material[]{
+                // 食べ物 - 全食べ物
+                // 果物・野菜系
+                Material.APPLE, Material.GOLDEN_APPLE, Material.ENCHANTED_GOLDEN_APPLE, Material.MELON_SLICE,
+                Material.CARROT, Material.GOLDEN_CARROT, Material.POTATO, Material.BAKED_POTATO, Material.POISONOUS_POTATO,
+                Material.BEETROOT, Material.SWEET_BERRIES, Material.GLOW_BERRIES, Material.PUMPKIN_PIE,
+                // 穀物系
+                Material.BREAD, Material.WHEAT, Material.COOKIE, Material.CAKE,
+                // 肉系
+                Material.BEEF, Material.COOKED_BEEF, Material.PORKCHOP, Material.COOKED_PORKCHOP,
+                Material.CHICKEN, Material.COOKED_CHICKEN, Material.MUTTON, Material.COOKED_MUTTON,
+                Material.RABBIT, Material.COOKED_RABBIT, Material.RABBIT_STEW,
+                // 魚系
+                Material.COD, Material.COOKED_COD, Material.SALMON, Material.COOKED_SALMON,
+                Material.TROPICAL_FISH, Material.PUFFERFISH, Material.DRIED_KELP,
+                // スープ・シチュー系
+                Material.MUSHROOM_STEW, Material.BEETROOT_SOUP, Material.SUSPICIOUS_STEW,
+                // 飲み物・その他
+                Material.MILK_BUCKET, Material.HONEY_BOTTLE, Material.CHORUS_FRUIT, Material.SPIDER_EYE,
+                Material.FERMENTED_SPIDER_EYE, Material.ROTTEN_FLESH
+            };
+            
+            case ITEM_ID_DECORATION -> new Material[]{
+                // 装飾ブロック - 全装飾ブロック
+                // ウール系
+                Material.WHITE_WOOL, Material.ORANGE_WOOL, Material.MAGENTA_WOOL, Material.LIGHT_BLUE_WOOL,
+                Material.YELLOW_WOOL, Material.LIME_WOOL, Material.PINK_WOOL, Material.GRAY_WOOL,
+                Material.LIGHT_GRAY_WOOL, Material.CYAN_WOOL, Material.PURPLE_WOOL, Material.BLUE_WOOL,
+                Material.BROWN_WOOL, Material.GREEN_WOOL, Material.RED_WOOL, Material.BLACK_WOOL,
+                // コンクリート系
+                Material.WHITE_CONCRETE, Material.ORANGE_CONCRETE, Material.MAGENTA_CONCRETE, Material.LIGHT_BLUE_CONCRETE,
+                Material.YELLOW_CONCRETE, Material.LIME_CONCRETE, Material.PINK_CONCRETE, Material.GRAY_CONCRETE,
+                Material.LIGHT_GRAY_CONCRETE, Material.CYAN_CONCRETE, Material.PURPLE_CONCRETE, Material.BLUE_CONCRETE,
+                Material.BROWN_CONCRETE, Material.GREEN_CONCRETE, Material.RED_CONCRETE, Material.BLACK_CONCRETE,
+                // ガラス系
+                Material.GLASS, Material.TINTED_GLASS, Material.WHITE_STAINED_GLASS, Material.ORANGE_STAINED_GLASS,
+                Material.MAGENTA_STAINED_GLASS, Material.LIGHT_BLUE_STAINED_GLASS, Material.YELLOW_STAINED_GLASS,
+                Material.LIME_STAINED_GLASS, Material.PINK_STAINED_GLASS, Material.GRAY_STAINED_GLASS,
+                Material.LIGHT_GRAY_STAINED_GLASS, Material.CYAN_STAINED_GLASS, Material.PURPLE_STAINED_GLASS,
+                Material.BLUE_STAINED_GLASS, Material.BROWN_STAINED_GLASS, Material.GREEN_STAINED_GLASS,
+                Material.RED_STAINED_GLASS, Material.BLACK_STAINED_GLASS,
+                // カーペット系
+                Material.WHITE_CARPET, Material.ORANGE_CARPET, Material.MAGENTA_CARPET, Material.LIGHT_BLUE_CARPET,
+                Material.YELLOW_CARPET, Material.LIME_CARPET, Material.PINK_CARPET, Material.GRAY_CARPET,
+                Material.LIGHT_GRAY_CARPET, Material.CYAN_CARPET, Material.PURPLE_CARPET, Material.BLUE_CARPET,
+                Material.BROWN_CARPET, Material.GREEN_CARPET, Material.RED_CARPET, Material.BLACK_CARPET,
+                // 照明系
+                Material.TORCH, Material.SOUL_TORCH, Material.REDSTONE_TORCH, Material.LANTERN, Material.SOUL_LANTERN,
+                Material.GLOWSTONE, Material.SEA_LANTERN, Material.REDSTONE_LAMP, Material.BEACON, Material.CONDUIT,
+                Material.SHROOMLIGHT, Material.CRYING_OBSIDIAN, Material.RESPAWN_ANCHOR,
+                // 花・植物系
+                Material.POPPY, Material.DANDELION, Material.BLUE_ORCHID, Material.ALLIUM, Material.AZURE_BLUET,
+                Material.RED_TULIP, Material.ORANGE_TULIP, Material.WHITE_TULIP, Material.PINK_TULIP,
+                Material.OXEYE_DAISY, Material.CORNFLOWER, Material.LILY_OF_THE_VALLEY, Material.WITHER_ROSE,
+                Material.SUNFLOWER, Material.LILAC, Material.ROSE_BUSH, Material.PEONY,
+                // その他装飾
+                Material.PAINTING, Material.ITEM_FRAME, Material.GLOW_ITEM_FRAME, Material.FLOWER_POT,
+                Material.ARMOR_STAND, Material.END_ROD, Material.LIGHTNING_ROD, Material.CHAIN,
+                Material.CANDLE, Material.WHITE_CANDLE, Material.ORANGE_CANDLE, Material.MAGENTA_CANDLE,
+                Material.LIGHT_BLUE_CANDLE, Material.YELLOW_CANDLE, Material.LIME_CANDLE, Material.PINK_CANDLE,
+                Material.GRAY_CANDLE, Material.LIGHT_GRAY_CANDLE, Material.CYAN_CANDLE, Material.PURPLE_CANDLE,
+                Material.BLUE_CANDLE, Material.BROWN_CANDLE, Material.GREEN_CANDLE, Material.RED_CANDLE, Material.BLACK_CANDLE
+            };
+            
+            default -> Material.values(); // 全てのMaterialを返す
+        };
+    }
+}
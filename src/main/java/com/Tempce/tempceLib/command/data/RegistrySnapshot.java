@@ -0,0 +1,189 @@
+package com.Tempce.tempceLib.command.data;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
+import org.bukkit.NamespacedKey;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.ServerLoadEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.potion.PotionEffectType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * エンチャント・ポーション効果のスナップショット
+ * レジストリを一度だけ走査し、ソート済みのIDの前方一致インデックスと、名前から値を引くマップを保持します
+ * タブ補完・引数のバリデーション・引数の変換・選択GUIで共有されます
+ *
+ * IDは名前空間を除いたキー（minecraft以外の名前空間は「名前空間:キー」）で、
+ * 名前空間付きのキーとポーション効果の旧名称（例: increase_damage）でも解決できます
+ * サーバーの読み込み完了時とデータパックの再読み込み時（Paper）に {@link #refresh()} で作り直されます
+ * @param <T> 値の型
+ */
+public final class RegistrySnapshot<T extends Keyed> {
+
+    private static final String RESOURCES_RELOADED_EVENT = "io.papermc.paper.event.server.ServerResourcesReloadedEvent";
+
+    private static volatile RegistrySnapshot<Enchantment> enchantments = buildEnchantments();
+    private static volatile RegistrySnapshot<PotionEffectType> potionEffects = buildPotionEffects();
+
+    private final SortedPrefixIndex<T> index;
+    private final Map<String, T> byName;
+    private final List<T> values;
+
+    private RegistrySnapshot(SortedPrefixIndex<T> index, Map<String, T> byName) {
+        this.index = index;
+        this.byName = byName;
+
+        List<T> sorted = new ArrayList<>(index.size());
+        for (int i = 0; i < index.size(); i++) {
+            sorted.add(index.getValue(i));
+        }
+        this.values = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * エンチャントのスナップショットを取得する
+     */
+    public static RegistrySnapshot<Enchantment> enchantments() {
+        return enchantments;
+    }
+
+    /**
+     * ポーション効果のスナップショットを取得する
+     */
+    public static RegistrySnapshot<PotionEffectType> potionEffects() {
+        return potionEffects;
+    }
+
+    /**
+     * レジストリを再走査してスナップショットを作り直す
+     */
+    public static void refresh() {
+        enchantments = buildEnchantments();
+        potionEffects = buildPotionEffects();
+    }
+
+    /**
+     * スナップショットを作り直すイベントを登録する
+     * @param plugin イベントを登録するプラグイン
+     */
+    public static void registerRefreshListener(Plugin plugin) {
+        Listener listener = new RefreshListener();
+        Bukkit.getPluginManager().registerEvent(ServerLoadEvent.class, listener, EventPriority.MONITOR,
+            (registered, event) -> refresh(), plugin, true);
+
+        // データパックの再読み込みイベントはPaperのみ
+        try {
+            Class<? extends Event> eventClass = Class.forName(RESOURCES_RELOADED_EVENT).asSubclass(Event.class);
+            Bukkit.getPluginManager().registerEvent(eventClass, listener, EventPriority.MONITOR,
+                (registered, event) -> refresh(), plugin, true);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            // 非対応のサーバーではサーバーの読み込み時のみ作り直す
+        }
+    }
+
+    /**
+     * 要素数を取得
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * 指定位置のIDを取得（ID順）
+     */
+    public String getId(int position) {
+        return index.getKey(position);
+    }
+
+    /**
+     * 値をID順で取得
+     */
+    public List<T> getValues() {
+        return values;
+    }
+
+    /**
+     * 名前から値を解決する（大文字・小文字は区別しない）
+     * @param name ID・名前空間付きのキー・旧名称
+     * @return 値（見つからない場合はnull）
+     */
+    public T resolve(String name) {
+        return byName.get(name.toLowerCase());
+    }
+
+    /**
+     * 入力に前方一致するIDを取得する（ID順）
+     * @param input 入力中の文字列
+     * @return ID
+     */
+    public List<String> complete(String input) {
+        String prefix = input.toLowerCase();
+        int from = index.fromIndex(prefix);
+        int to = index.toIndex(prefix, from);
+
+        List<String> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ids.add(index.getKey(i));
+        }
+        return ids;
+    }
+
+    private static RegistrySnapshot<Enchantment> buildEnchantments() {
+        Collector<Enchantment> collector = new Collector<>();
+        for (Enchantment enchantment : Enchantment.values()) {
+            collector.add(enchantment, null);
+        }
+        return collector.build();
+    }
+
+    private static RegistrySnapshot<PotionEffectType> buildPotionEffects() {
+        Collector<PotionEffectType> collector = new Collector<>();
+        for (PotionEffectType effectType : PotionEffectType.values()) {
+            if (effectType != null) {
+                collector.add(effectType, effectType.getName());
+            }
+        }
+        return collector.build();
+    }
+
+    /**
+     * スナップショットを作り直すイベントの登録先（サーバーの読み込み完了時・データパックの再読み込み時）
+     */
+    private static final class RefreshListener implements Listener {
+    }
+
+    /**
+     * スナップショットの構築処理
+     */
+    private static final class Collector<T extends Keyed> {
+        private final SortedPrefixIndex.Builder<T> builder = SortedPrefixIndex.builder();
+        private final Map<String, T> byName = new HashMap<>();
+
+        void add(T value, String legacyName) {
+            NamespacedKey key = value.getKey();
+            String namespaced = (key.getNamespace() + ":" + key.getKey()).toLowerCase();
+            String id = "minecraft".equals(key.getNamespace()) ? key.getKey().toLowerCase() : namespaced;
+
+            builder.add(id, value);
+            byName.put(id, value);
+            byName.put(namespaced, value);
+            if (legacyName != null) {
+                // IDと重複する場合はIDを優先する
+                byName.putIfAbsent(legacyName.toLowerCase(), value);
+            }
+        }
+
+        RegistrySnapshot<T> build() {
+            return new RegistrySnapshot<>(builder.build(), Collections.unmodifiableMap(byName));
+        }
+    }
+}
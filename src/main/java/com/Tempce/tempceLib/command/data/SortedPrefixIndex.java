@@ -0,0 +1,138 @@
+package com.Tempce.tempceLib.command.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 前方一致検索用のソート済みインデックス
+ * キーをソート済み配列で保持し、前方一致する範囲を二分探索で求めます
+ * 範囲内の要素はキー順に並んでいるため、結果を改めてソートする必要はありません
+ * @param <T> 値の型
+ */
+public final class SortedPrefixIndex<T> {
+
+    private final String[] keys;
+    private final Object[] values;
+
+    private SortedPrefixIndex(String[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * ビルダーを作成する
+     * @param <T> 値の型
+     * @return ビルダー
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 要素数を取得
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * 指定位置のキーを取得
+     */
+    public String getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * 指定位置の値を取得
+     */
+    @SuppressWarnings("unchecked")
+    public T getValue(int index) {
+        return (T) values[index];
+    }
+
+    /**
+     * 前方一致する範囲の開始位置を取得する
+     * @param prefix 接頭辞
+     * @return 開始位置（含む）
+     */
+    public int fromIndex(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 前方一致する範囲の終了位置を取得する
+     * @param prefix 接頭辞
+     * @param fromIndex {@link #fromIndex(String)} で求めた開始位置
+     * @return 終了位置（含まない）
+     */
+    public int toIndex(String prefix, int fromIndex) {
+        // 前方一致するキーは連続しているため、一致しなくなる最初の位置を二分探索する
+        int low = fromIndex;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * インデックスのビルダー
+     * @param <T> 値の型
+     */
+    public static final class Builder<T> {
+        private final List<String> keys = new ArrayList<>();
+        private final List<T> values = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 要素を追加する（同じキーを複数回追加可能）
+         * @param key キー
+         * @param value 値
+         * @return このビルダー
+         */
+        public Builder<T> add(String key, T value) {
+            keys.add(key);
+            values.add(value);
+            return this;
+        }
+
+        /**
+         * キー順にソートしたインデックスを構築する（同じキーは追加順を維持）
+         * @return インデックス
+         */
+        public SortedPrefixIndex<T> build() {
+            Integer[] order = new Integer[keys.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(keys::get));
+
+            String[] sortedKeys = new String[order.length];
+            Object[] sortedValues = new Object[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedKeys[i] = keys.get(order[i]);
+                sortedValues[i] = values.get(order[i]);
+            }
+            return new SortedPrefixIndex<>(sortedKeys, sortedValues);
+        }
+    }
+}
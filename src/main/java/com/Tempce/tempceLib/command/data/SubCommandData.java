@@ -1,10 +1,21 @@
 package com.Tempce.tempceLib.command.data;
 
+import com.Tempce.tempceLib.command.executor.ArgumentBinder;
+import com.Tempce.tempceLib.command.executor.InvokerFactory;
+import com.Tempce.tempceLib.command.executor.SubCommandInvoker;
+import com.Tempce.tempceLib.command.helper.CompiledArgumentValidator;
+import com.Tempce.tempceLib.command.helper.SubCommandHelp;
+
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * サブコマンドの情報を保持するクラス
+ * 登録時に一度だけ構築される不変オブジェクトで、パスの分割結果やエイリアスは構築時に事前計算されます
  */
 public class SubCommandData {
     private final String path;
@@ -17,22 +28,84 @@ public class SubCommandData {
     private final Method method;
     private final Object instance;
     private final List<ArgumentData> arguments;
-    private String parentCommandName; // 親コマンド名
+    private final SubCommandInvoker invoker;
+    private final ArgumentBinder binder; // 型付き引数の場合のみ
+    private volatile String parentCommandName; // 親コマンド名
+    
+    // 構築時に事前計算される値
+    private final List<String> segments;
+    private final String normalizedPath;
+    private final String invocationPath;
+    private final String firstLevelName;
+    private final Set<String> aliasSet;
+    private final CompiledArgumentValidator validator;
+    private volatile SubCommandHelp help;
     
     public SubCommandData(String path, String permission, List<String> aliases, 
                          int timeout, String description, String usage, 
                          boolean playerOnly, Method method, Object instance, 
                          List<ArgumentData> arguments) {
+        this(path, permission, aliases, timeout, description, usage, playerOnly, method, instance, arguments,
+            InvokerFactory.reflective(method, instance), null);
+    }
+    
+    public SubCommandData(String path, String permission, List<String> aliases, 
+                         int timeout, String description, String usage, 
+                         boolean playerOnly, Method method, Object instance, 
+                         List<ArgumentData> arguments, SubCommandInvoker invoker,
+                         String parentCommandName) {
+        this(path, permission, aliases, timeout, description, usage, playerOnly, method, instance, arguments,
+            invoker, parentCommandName, null);
+    }
+    
+    /**
+     * @param invoker (CommandSender, String[]) 形式の呼び出し処理（型付き引数の場合はnull可）
+     * @param binder 型付き引数の変換処理（(CommandSender, String[]) 形式の場合はnull）
+     * @throws IllegalArgumentException invokerとbinderの両方がnullの場合
+     */
+    public SubCommandData(String path, String permission, List<String> aliases, 
+                         int timeout, String description, String usage, 
+                         boolean playerOnly, Method method, Object instance, 
+                         List<ArgumentData> arguments, SubCommandInvoker invoker,
+                         String parentCommandName, ArgumentBinder binder) {
+        if (invoker == null && binder == null) {
+            throw new IllegalArgumentException("サブコマンド '" + path + "' の invoker と binder がどちらも null です");
+        }
         this.path = path;
         this.permission = permission;
-        this.aliases = aliases;
+        this.aliases = Collections.unmodifiableList(new ArrayList<>(aliases));
         this.timeout = timeout;
         this.description = description;
         this.usage = usage;
         this.playerOnly = playerOnly;
         this.method = method;
         this.instance = instance;
-        this.arguments = arguments;
+        this.arguments = arguments == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(arguments));
+        this.binder = binder;
+        this.invoker = invoker != null ? invoker : binder::dispatch;
+        this.parentCommandName = parentCommandName;
+        
+        // パスのレベル分割（小文字化済み）
+        List<String> levels = new ArrayList<>();
+        for (String level : path.toLowerCase().split("\\.")) {
+            levels.add(level);
+        }
+        this.segments = Collections.unmodifiableList(levels);
+        this.normalizedPath = String.join(".", levels);
+        this.invocationPath = String.join(" ", levels);
+        this.firstLevelName = levels.get(0);
+        
+        // エイリアス（小文字化済み、登録順）
+        Set<String> lowerAliases = new LinkedHashSet<>();
+        for (String alias : aliases) {
+            lowerAliases.add(alias.toLowerCase());
+        }
+        this.aliasSet = Collections.unmodifiableSet(lowerAliases);
+        
+        this.validator = CompiledArgumentValidator.compile(this.arguments);
+        
+        // ヘルプ・使用方法の表示行（他のフィールドの初期化後に組み立てる）
+        this.help = SubCommandHelp.compile(this);
     }
     
     public String getPath() {
@@ -40,15 +113,45 @@ public class SubCommandData {
     }
     
     /**
-     * パスの最初の部分を取得（例: "test.test2" -> "test"）
+     * 小文字化したパスを取得（例: "Config.Reload" -> "config.reload"）
+     */
+    public String getNormalizedPath() {
+        return normalizedPath;
+    }
+    
+    /**
+     * コマンド入力時の形式のパスを取得（例: "config.reload" -> "config reload"）
+     */
+    public String getInvocationPath() {
+        return invocationPath;
+    }
+    
+    /**
+     * パスの最初の部分を取得（例: "test.test2" -> "test"、小文字）
      */
     public String getFirstLevelName() {
-        return path.split("\\.")[0];
+        return firstLevelName;
     }
     
     /**
-     * パスの全レベルを配列として取得（例: "test.test2" -> ["test", "test2"]）
+     * パスの全レベルを取得（例: "test.test2" -> ["test", "test2"]、小文字）
      */
+    public List<String> getSegments() {
+        return segments;
+    }
+    
+    /**
+     * パスのレベル数を取得（例: "test.test2" -> 2）
+     */
+    public int getDepth() {
+        return segments.size();
+    }
+    
+    /**
+     * パスの全レベルを配列として取得（例: "test.test2" -> ["test", "test2"]、定義時の大文字・小文字のまま）
+     * 呼び出しごとにパスを分割するため、{@link #getSegments()}（小文字）の使用を推奨します
+     */
+    @Deprecated
     public String[] getPathLevels() {
         return path.split("\\.");
     }
@@ -61,6 +164,13 @@ public class SubCommandData {
         return aliases;
     }
     
+    /**
+     * 小文字化済みのエイリアスを取得
+     */
+    public Set<String> getAliasSet() {
+        return aliasSet;
+    }
+    
     public int getTimeout() {
         return timeout;
     }
@@ -77,6 +187,10 @@ public class SubCommandData {
         return playerOnly;
     }
     
+    /**
+     * ハンドラーメソッドを取得
+     * @return ハンドラーメソッド（コンパイル時レジストリから生成された場合はnull）
+     */
     public Method getMethod() {
         return method;
     }
@@ -85,10 +199,47 @@ public class SubCommandData {
         return instance;
     }
     
+    /**
+     * 登録時に生成されたハンドラーの呼び出し処理を取得
+     */
+    public SubCommandInvoker getInvoker() {
+        return invoker;
+    }
+    
+    /**
+     * 型付き引数の変換処理を取得
+     * @return 変換処理（(CommandSender, String[]) 形式のハンドラーの場合はnull）
+     */
+    public ArgumentBinder getBinder() {
+        return binder;
+    }
+    
+    /**
+     * ハンドラーが型付き引数を受け取るかどうか
+     */
+    public boolean isTypedBinding() {
+        return binder != null;
+    }
+    
     public List<ArgumentData> getArguments() {
         return arguments;
     }
     
+    /**
+     * 事前構築された引数バリデーターを取得
+     * @return バリデーター（引数定義がない場合はnull）
+     */
+    public CompiledArgumentValidator getValidator() {
+        return validator;
+    }
+    
+    /**
+     * 登録時に組み立てられたヘルプ・使用方法の表示行を取得
+     */
+    public SubCommandHelp getHelp() {
+        return help;
+    }
+    
     /**
      * 引数が定義されているかどうかを判定
      */
@@ -100,7 +251,13 @@ public class SubCommandData {
         return parentCommandName;
     }
     
+    /**
+     * 親コマンド名を設定し、ヘルプ・使用方法の表示行を組み立て直す
+     * @deprecated 親コマンド名はコンストラクタで指定してください
+     */
+    @Deprecated
     public void setParentCommandName(String parentCommandName) {
         this.parentCommandName = parentCommandName;
+        this.help = SubCommandHelp.compile(this);
     }
 }
@@ -0,0 +1,394 @@
+package com.Tempce.tempceLib.command.executor;
+
+import com.Tempce.tempceLib.command.data.ArgumentData;
+import com.Tempce.tempceLib.command.data.ArgumentType;
+import com.Tempce.tempceLib.command.data.RegistrySnapshot;
+import com.Tempce.tempceLib.command.helper.ArgumentValidator;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Registry;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.BlockCommandSender;
+import org.bukkit.command.CommandSender;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+import org.bukkit.potion.PotionEffectType;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * 型付き引数を持つサブコマンドの引数変換を行うクラス
+ * 登録時に引数定義とハンドラーのパラメータ型から変換処理を事前に決定し、
+ * 実行時は各引数を1回だけ解析して範囲チェックも同時に行います
+ */
+public class ArgumentBinder {
+
+    /** Paperの Server#getOfflinePlayerIfCached（ユーザーキャッシュのみを参照する、存在しない場合はnull） */
+    private static final Method GET_OFFLINE_PLAYER_IF_CACHED = findCachedLookup();
+
+    private final ArgumentData[] arguments;
+    private final Converter[] converters;
+    private final Object[] fallbacks; // 省略時かつデフォルト値がない場合の値
+    private final boolean[] relative; // 相対座標（~）を送信者の位置で解決するか
+    private final int requiredCount;
+    private final BoundSubCommandInvoker target;
+
+    /**
+     * @param arguments 引数定義
+     * @param parameterTypes ハンドラーのパラメータ型（送信者を除く、引数定義と同じ順序）
+     * @param target 変換済みの値でハンドラーを呼び出す処理
+     * @throws IllegalArgumentException 引数定義とパラメータ型が対応しない場合
+     */
+    public ArgumentBinder(List<ArgumentData> arguments, Class<?>[] parameterTypes, BoundSubCommandInvoker target) {
+        if (arguments.size() != parameterTypes.length) {
+            throw new IllegalArgumentException("引数定義の数 (" + arguments.size() + ") とパラメータの数 (" +
+                parameterTypes.length + ") が一致しません");
+        }
+
+        this.arguments = arguments.toArray(new ArgumentData[0]);
+        this.converters = new Converter[parameterTypes.length];
+        this.fallbacks = new Object[parameterTypes.length];
+        this.relative = new boolean[parameterTypes.length];
+        this.target = target;
+
+        int required = 0;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            ArgumentData argument = this.arguments[i];
+            Class<?> parameterType = parameterTypes[i];
+
+            if (parameterType == String.class) {
+                converters[i] = (value, arg, position) -> value;
+            } else {
+                Class<?> valueType = valueTypeOf(argument.getType());
+                if (!box(parameterType).isAssignableFrom(valueType)) {
+                    throw new IllegalArgumentException("引数 " + argument.getName() + " (" + argument.getType() +
+                        ") はパラメータ型 " + parameterType.getSimpleName() + " に変換できません（" +
+                        valueType.getSimpleName() + " または String を指定してください）");
+                }
+                converters[i] = converterOf(argument.getType());
+                relative[i] = isCoordinate(argument.getType());
+            }
+            fallbacks[i] = zeroValueOf(parameterType);
+
+            if (argument.isRequired()) {
+                required++;
+            }
+        }
+        this.requiredCount = required;
+    }
+
+    /**
+     * 引数を変換する
+     * 変換に失敗した場合はエラーメッセージを送信します
+     * @param sender コマンド送信者
+     * @param args 引数（サブコマンドパスを除く）
+     * @return 変換済みの値（失敗した場合はnull）
+     */
+    public Object[] bind(CommandSender sender, String[] args) {
+        if (args.length < requiredCount) {
+            return null;
+        }
+
+        Object[] values = new Object[converters.length];
+        for (int i = 0; i < converters.length; i++) {
+            ArgumentData argument = arguments[i];
+            String value = i < args.length ? args[i] : null;
+
+            if (value == null || value.trim().isEmpty()) {
+                if (argument.isRequired()) {
+                    sender.sendMessage(ChatColor.RED + "引数 " + (i + 1) + " (" + argument.getName() + ") は必須です。");
+                    return null;
+                }
+                if (argument.getDefaultValue().isEmpty()) {
+                    values[i] = fallbacks[i];
+                    continue;
+                }
+                value = argument.getDefaultValue();
+            }
+
+            try {
+                values[i] = relative[i] && ArgumentValidator.isRelativeCoordinate(value)
+                    ? resolveRelative(sender, value, argument, i + 1)
+                    : converters[i].convert(value, argument, i + 1);
+            } catch (BindingException e) {
+                sender.sendMessage(ChatColor.RED + e.getMessage());
+                return null;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 変換済みの値でハンドラーを呼び出す
+     * @param sender コマンド送信者
+     * @param values 変換済みの値
+     * @throws Exception ハンドラー内で発生した例外
+     */
+    public void invoke(CommandSender sender, Object[] values) throws Exception {
+        target.invoke(sender, values);
+    }
+
+    /**
+     * 引数を変換してハンドラーを呼び出す（変換に失敗した場合は呼び出さない）
+     * @param sender コマンド送信者
+     * @param args 引数（サブコマンドパスを除く）
+     * @return ハンドラーを呼び出した場合はtrue
+     * @throws Exception ハンドラー内で発生した例外
+     */
+    public boolean dispatch(CommandSender sender, String[] args) throws Exception {
+        Object[] values = bind(sender, args);
+        if (values == null) {
+            return false;
+        }
+        target.invoke(sender, values);
+        return true;
+    }
+
+    /**
+     * 引数タイプの変換後の型
+     */
+    private static Class<?> valueTypeOf(ArgumentType type) {
+        switch (type) {
+            case INTEGER:
+                return Integer.class;
+            case DOUBLE:
+            case COORDINATE_X:
+            case COORDINATE_Y:
+            case COORDINATE_Z:
+                return Double.class;
+            case BOOLEAN:
+                return Boolean.class;
+            case ONLINE_PLAYER:
+                return Player.class;
+            case ALL_PLAYER:
+                return OfflinePlayer.class;
+            case WORLD:
+                return World.class;
+            case ITEM_ID:
+            case ITEM_ID_TOOL:
+            case ITEM_ID_BLOCK:
+            case ITEM_ID_NATURE_BLOCK:
+            case ITEM_ID_WEAPON_ARMOR:
+            case ITEM_ID_FOOD:
+            case ITEM_ID_DECORATION:
+                return Material.class;
+            case ENTITY_ID:
+                return EntityType.class;
+            case ENCHANTMENT:
+                return Enchantment.class;
+            case POTION_EFFECT:
+                return PotionEffectType.class;
+            case STRING:
+            default:
+                return String.class;
+        }
+    }
+
+    /**
+     * 引数タイプの変換処理
+     */
+    private static Converter converterOf(ArgumentType type) {
+        switch (type) {
+            case INTEGER:
+                return ArgumentBinder::toInteger;
+            case DOUBLE:
+            case COORDINATE_X:
+            case COORDINATE_Y:
+            case COORDINATE_Z:
+                return ArgumentBinder::toDouble;
+            case BOOLEAN:
+                return ArgumentBinder::toBoolean;
+            case ONLINE_PLAYER:
+                return (value, argument, position) -> require(Bukkit.getPlayerExact(value), value, argument, position, "オンラインのプレイヤー");
+            case ALL_PLAYER:
+                return ArgumentBinder::toOfflinePlayer;
+            case WORLD:
+                return (value, argument, position) -> require(Bukkit.getWorld(value), value, argument, position, "ワールド");
+            case ITEM_ID:
+            case ITEM_ID_TOOL:
+            case ITEM_ID_BLOCK:
+            case ITEM_ID_NATURE_BLOCK:
+            case ITEM_ID_WEAPON_ARMOR:
+            case ITEM_ID_FOOD:
+            case ITEM_ID_DECORATION:
+                return (value, argument, position) -> require(Material.matchMaterial(value), value, argument, position, "アイテム");
+            case ENTITY_ID:
+                return (value, argument, position) -> require(lookup(Registry.ENTITY_TYPE, value), value, argument, position, "エンティティ");
+            case ENCHANTMENT:
+                return (value, argument, position) -> require(RegistrySnapshot.enchantments().resolve(value), value, argument, position, "エンチャント");
+            case POTION_EFFECT:
+                return (value, argument, position) -> require(RegistrySnapshot.potionEffects().resolve(value), value, argument, position, "ポーション効果");
+            case STRING:
+            default:
+                return (value, argument, position) -> value;
+        }
+    }
+
+    private static Object toInteger(String value, ArgumentData argument, int position) throws BindingException {
+        int intValue;
+        try {
+            intValue = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BindingException("引数 " + position + " (" + argument.getName() + ") は整数である必要があります。");
+        }
+        if (argument.getMin() != Double.MIN_VALUE && intValue < argument.getMin()) {
+            throw new BindingException("引数 " + position + " (" + argument.getName() + ") は " + (int) argument.getMin() + " 以上である必要があります。");
+        }
+        if (argument.getMax() != Double.MAX_VALUE && intValue > argument.getMax()) {
+            throw new BindingException("引数 " + position + " (" + argument.getName() + ") は " + (int) argument.getMax() + " 以下である必要があります。");
+        }
+        return intValue;
+    }
+
+    private static Object toDouble(String value, ArgumentData argument, int position) throws BindingException {
+        double doubleValue;
+        try {
+            doubleValue = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            String typeName = argument.getType() == ArgumentType.DOUBLE ? "数値" : "座標値";
+            throw new BindingException("引数 " + position + " (" + argument.getName() + ") は" + typeName + "である必要があります。");
+        }
+        return checkRange(doubleValue, argument, position);
+    }
+
+    /**
+     * 相対座標（~, ~5）を送信者の位置を基準に解決する
+     */
+    private static Object resolveRelative(CommandSender sender, String value, ArgumentData argument, int position) throws BindingException {
+        Location origin;
+        if (sender instanceof Entity entity) {
+            origin = entity.getLocation();
+        } else if (sender instanceof BlockCommandSender blockSender) {
+            origin = blockSender.getBlock().getLocation();
+        } else {
+            throw new BindingException("引数 " + position + " (" + argument.getName() + ") の相対座標は位置を持つ送信者のみ使用できます。");
+        }
+
+        double base;
+        switch (argument.getType()) {
+            case COORDINATE_X:
+                base = origin.getX();
+                break;
+            case COORDINATE_Y:
+                base = origin.getY();
+                break;
+            default:
+                base = origin.getZ();
+                break;
+        }
+        double offset = value.length() > 1 ? Double.parseDouble(value.substring(1)) : 0;
+        return checkRange(base + offset, argument, position);
+    }
+
+    private static boolean isCoordinate(ArgumentType type) {
+        return type == ArgumentType.COORDINATE_X || type == ArgumentType.COORDINATE_Y || type == ArgumentType.COORDINATE_Z;
+    }
+
+    private static Object checkRange(double doubleValue, ArgumentData argument, int position) throws BindingException {
+        if (argument.getMin() != Double.MIN_VALUE && doubleValue < argument.getMin()) {
+            throw new BindingException("引数 " + position + " (" + argument.getName() + ") は " + argument.getMin() + " 以上である必要があります。");
+        }
+        if (argument.getMax() != Double.MAX_VALUE && doubleValue > argument.getMax()) {
+            throw new BindingException("引数 " + position + " (" + argument.getName() + ") は " + argument.getMax() + " 以下である必要があります。");
+        }
+        return doubleValue;
+    }
+
+    private static Object toBoolean(String value, ArgumentData argument, int position) throws BindingException {
+        if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("on") || value.equalsIgnoreCase("yes")) {
+            return Boolean.TRUE;
+        }
+        if (value.equalsIgnoreCase("false") || value.equalsIgnoreCase("off") || value.equalsIgnoreCase("no")) {
+            return Boolean.FALSE;
+        }
+        throw new BindingException("引数 " + position + " (" + argument.getName() + ") は true/false、on/off、yes/no のいずれかである必要があります。");
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Object toOfflinePlayer(String value, ArgumentData argument, int position) throws BindingException {
+        Player online = Bukkit.getPlayerExact(value);
+        if (online != null) {
+            return online;
+        }
+        // Bukkit#getOfflinePlayer(String) はキャッシュにない名前をMojangに問い合わせるため使用しない
+        OfflinePlayer offline = null;
+        if (GET_OFFLINE_PLAYER_IF_CACHED != null) {
+            try {
+                offline = (OfflinePlayer) GET_OFFLINE_PLAYER_IF_CACHED.invoke(Bukkit.getServer(), value);
+            } catch (ReflectiveOperationException e) {
+                offline = null;
+            }
+        }
+        if (offline == null || !offline.hasPlayedBefore()) {
+            throw new BindingException("引数 " + position + " (" + argument.getName() + ") のプレイヤー '" + value + "' が見つかりません。");
+        }
+        return offline;
+    }
+
+    private static Method findCachedLookup() {
+        try {
+            return Server.class.getMethod("getOfflinePlayerIfCached", String.class);
+        } catch (NoSuchMethodException e) {
+            return null; // Paper以外のサーバー（オンラインのプレイヤーのみ解決する）
+        }
+    }
+
+    /**
+     * 名前空間付きキー（省略時はminecraft）でレジストリから検索する
+     */
+    private static <T extends org.bukkit.Keyed> T lookup(Registry<T> registry, String value) {
+        NamespacedKey key = NamespacedKey.fromString(value.toLowerCase());
+        return key != null ? registry.get(key) : null;
+    }
+
+    private static Object require(Object resolved, String value, ArgumentData argument, int position, String kind) throws BindingException {
+        if (resolved == null) {
+            throw new BindingException("引数 " + position + " (" + argument.getName() + ") の" + kind + " '" + value + "' が見つかりません。");
+        }
+        return resolved;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (type == int.class) return Integer.class;
+        if (type == double.class) return Double.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == long.class) return Long.class;
+        if (type == float.class) return Float.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        if (type == char.class) return Character.class;
+        return type;
+    }
+
+    private static Object zeroValueOf(Class<?> type) {
+        if (type == int.class) return 0;
+        if (type == double.class) return 0.0d;
+        if (type == boolean.class) return Boolean.FALSE;
+        return null;
+    }
+
+    /**
+     * 1引数分の変換処理
+     */
+    @FunctionalInterface
+    private interface Converter {
+        Object convert(String value, ArgumentData argument, int position) throws BindingException;
+    }
+
+    /**
+     * 変換失敗（メッセージは送信者にそのまま表示される）
+     */
+    private static final class BindingException extends Exception {
+        private BindingException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
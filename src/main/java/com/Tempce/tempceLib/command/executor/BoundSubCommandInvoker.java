@@ -0,0 +1,19 @@
+package com.Tempce.tempceLib.command.executor;
+
+import org.bukkit.command.CommandSender;
+
+/**
+ * 型付き引数を受け取るサブコマンドハンドラーの呼び出し処理
+ * 引数は {@link ArgumentBinder} により変換済みの値が宣言順に渡されます
+ */
+@FunctionalInterface
+public interface BoundSubCommandInvoker {
+    
+    /**
+     * ハンドラーを呼び出す
+     * @param sender コマンド送信者
+     * @param values 変換済みの引数値
+     * @throws Exception ハンドラー内で発生した例外
+     */
+    void invoke(CommandSender sender, Object[] values) throws Exception;
+}
@@ -0,0 +1,136 @@
+package com.Tempce.tempceLib.command.executor;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * コマンドの実行統計を保持するクラス
+ * コマンドIDごとの集計値を配列で保持し、すべてのコマンドで共有されます
+ */
+public class CommandMetrics {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private volatile Counters[] counters = new Counters[INITIAL_CAPACITY];
+    private final LongAdder tabCompletions = new LongAdder();
+    
+    /**
+     * 実行を記録する
+     * @param commandId コマンドID
+     * @param elapsedNanos 実行時間（ナノ秒）
+     */
+    public void recordExecution(int commandId, long elapsedNanos) {
+        Counters target = counters(commandId);
+        target.executions.increment();
+        target.executionNanos.add(elapsedNanos);
+    }
+    
+    /**
+     * 実行中の例外を記録する
+     * @param commandId コマンドID
+     */
+    public void recordFailure(int commandId) {
+        counters(commandId).failures.increment();
+    }
+    
+    /**
+     * クールダウンによる拒否を記録する
+     * @param commandId コマンドID
+     */
+    public void recordCooldownRejection(int commandId) {
+        counters(commandId).cooldownRejections.increment();
+    }
+    
+    /**
+     * 権限不足による拒否を記録する
+     * @param commandId コマンドID
+     */
+    public void recordPermissionDenial(int commandId) {
+        counters(commandId).permissionDenials.increment();
+    }
+    
+    /**
+     * タブ補完の要求を記録する
+     */
+    public void recordTabCompletion() {
+        tabCompletions.increment();
+    }
+    
+    public long getExecutionCount(int commandId) {
+        Counters target = find(commandId);
+        return target != null ? target.executions.sum() : 0L;
+    }
+    
+    /**
+     * 累計実行時間を取得する
+     * @param commandId コマンドID
+     * @return 累計実行時間（ナノ秒）
+     */
+    public long getTotalExecutionNanos(int commandId) {
+        Counters target = find(commandId);
+        return target != null ? target.executionNanos.sum() : 0L;
+    }
+    
+    public long getFailureCount(int commandId) {
+        Counters target = find(commandId);
+        return target != null ? target.failures.sum() : 0L;
+    }
+    
+    public long getCooldownRejectionCount(int commandId) {
+        Counters target = find(commandId);
+        return target != null ? target.cooldownRejections.sum() : 0L;
+    }
+    
+    public long getPermissionDenialCount(int commandId) {
+        Counters target = find(commandId);
+        return target != null ? target.permissionDenials.sum() : 0L;
+    }
+    
+    public long getTabCompletionCount() {
+        return tabCompletions.sum();
+    }
+    
+    /**
+     * すべての統計をリセットする
+     */
+    public synchronized void reset() {
+        counters = new Counters[INITIAL_CAPACITY];
+        tabCompletions.reset();
+    }
+    
+    private Counters find(int commandId) {
+        Counters[] current = counters;
+        return commandId >= 0 && commandId < current.length ? current[commandId] : null;
+    }
+    
+    /**
+     * 集計値を取得し、存在しない場合は作成する
+     */
+    private Counters counters(int commandId) {
+        Counters target = find(commandId);
+        if (target != null) {
+            return target;
+        }
+        synchronized (this) {
+            Counters[] current = counters;
+            if (commandId >= current.length) {
+                Counters[] grown = new Counters[Math.max(current.length * 2, commandId + 1)];
+                System.arraycopy(current, 0, grown, 0, current.length);
+                current = grown;
+            }
+            if (current[commandId] == null) {
+                // 配列要素の書き込みを公開するため、作成のたびに配列参照を書き戻す
+                current[commandId] = new Counters();
+            }
+            counters = current;
+            return current[commandId];
+        }
+    }
+    
+    private static final class Counters {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder executionNanos = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder cooldownRejections = new LongAdder();
+        private final LongAdder permissionDenials = new LongAdder();
+    }
+}
@@ -0,0 +1,109 @@
+package com.Tempce.tempceLib.command.executor;
+
+import com.Tempce.tempceLib.TempceLib;
+import org.bukkit.command.CommandSender;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * サブコマンドハンドラーの呼び出し処理を生成するユーティリティクラス
+ * メソッドハンドルで呼び出しを生成し、利用できない場合はリフレクションにフォールバックします
+ * （ハンドラーのクラスは利用側プラグインのクラスローダーにあるため、LambdaMetafactoryではなくメソッドハンドルを使用します）
+ */
+public class InvokerFactory {
+    
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, CommandSender.class, String[].class);
+    private static final MethodType BOUND_INVOKER_TYPE = MethodType.methodType(void.class, CommandSender.class, Object[].class);
+    
+    /**
+     * (CommandSender, String[]) 形式のハンドラーメソッドから呼び出し処理を生成する
+     * @param method ハンドラーメソッド
+     * @param instance ハンドラーを保持するインスタンス（staticメソッドの場合はnull可）
+     * @return 呼び出し処理
+     */
+    public static SubCommandInvoker create(Method method, Object instance) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(instance);
+            }
+            // 第1引数がPlayerなどのサブタイプの場合もキャストされて呼び出される
+            MethodHandle target = handle.asType(INVOKER_TYPE);
+            return (sender, args) -> {
+                try {
+                    target.invokeExact(sender, args);
+                } catch (Exception | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+        } catch (Throwable e) {
+            // クラスにアクセスできない場合などはリフレクションで呼び出す
+            TempceLib plugin = TempceLib.getInstance();
+            if (plugin != null) {
+                plugin.getLogger().warning("サブコマンド " + method.getName() + " の呼び出し処理の生成に失敗したため、リフレクションを使用します: " + e);
+            }
+            return reflective(method, instance);
+        }
+    }
+    
+    /**
+     * リフレクションによる呼び出し処理を生成する
+     * @param method ハンドラーメソッド
+     * @param instance ハンドラーを保持するインスタンス
+     * @return 呼び出し処理
+     */
+    public static SubCommandInvoker reflective(Method method, Object instance) {
+        method.setAccessible(true);
+        return (sender, args) -> method.invoke(instance, sender, args);
+    }
+    
+    /**
+     * (CommandSender, 型付き引数...) 形式のハンドラーメソッドから呼び出し処理を生成する
+     * 変換済みの値の配列をメソッドハンドルで展開して呼び出し、生成できない場合はリフレクションにフォールバックします
+     * @param method ハンドラーメソッド
+     * @param instance ハンドラーを保持するインスタンス（staticメソッドの場合はnull可）
+     * @return 呼び出し処理
+     */
+    public static BoundSubCommandInvoker createBound(Method method, Object instance) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            MethodHandle handle = lookup.unreflect(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(instance);
+            }
+            // 送信者以降のパラメータを配列から展開し、プリミティブ型はアンボクシングする
+            MethodHandle target = handle
+                .asSpreader(Object[].class, method.getParameterCount() - 1)
+                .asType(BOUND_INVOKER_TYPE);
+            return (sender, values) -> {
+                try {
+                    target.invokeExact(sender, values);
+                } catch (Exception | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new InvocationTargetException(t);
+                }
+            };
+        } catch (Throwable e) {
+            TempceLib plugin = TempceLib.getInstance();
+            if (plugin != null) {
+                plugin.getLogger().warning("サブコマンド " + method.getName() + " の呼び出し処理の生成に失敗したため、リフレクションを使用します: " + e);
+            }
+            method.setAccessible(true);
+            return (sender, values) -> {
+                Object[] parameters = new Object[values.length + 1];
+                parameters[0] = sender;
+                System.arraycopy(values, 0, parameters, 1, values.length);
+                method.invoke(instance, parameters);
+            };
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.Tempce.tempceLib.command.executor;
+
+import org.bukkit.command.CommandSender;
+
+/**
+ * サブコマンドハンドラーの呼び出しを表す関数型インターフェース
+ * 登録時に{@link InvokerFactory}によって生成されます
+ */
+@FunctionalInterface
+public interface SubCommandInvoker {
+    
+    /**
+     * サブコマンドハンドラーを呼び出す
+     * @param sender コマンド送信者
+     * @param args サブコマンドパスを除いた引数
+     * @throws Exception ハンドラー内で発生した例外
+     */
+    void invoke(CommandSender sender, String[] args) throws Exception;
+}
@@ -1,58 +1,86 @@
 package com.Tempce.tempceLib.command.executor;
 
+import com.Tempce.tempceLib.command.cooldown.CooldownManager;
 import com.Tempce.tempceLib.command.data.CommandData;
+import com.Tempce.tempceLib.command.data.CommandIdRegistry;
+import com.Tempce.tempceLib.command.data.CommandNode;
 import com.Tempce.tempceLib.command.data.SubCommandData;
+import com.Tempce.tempceLib.command.helper.ArgumentValidator;
+import com.Tempce.tempceLib.command.helper.CompiledArgumentValidator;
+import com.Tempce.tempceLib.command.helper.HelpPages;
 import com.Tempce.tempceLib.command.manager.CommandManager;
+import com.Tempce.tempceLib.command.permission.PermissionCache;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * TempceLibコマンドシステムのメインエグゼキューター
+ * CommandManagerごとに1つだけ生成され、すべてのコマンドのルーティングを担当します
+ * クールダウンや実行統計などのコマンドごとの状態は、コマンドIDを添字として一元管理されます
  */
 public class TempceCommandExecutor implements CommandExecutor {
     
     private final CommandManager commandManager;
-    private final Map<String, Long> cooldowns = new HashMap<>();
+    private final CommandIdRegistry commandIds = new CommandIdRegistry();
+    private final CooldownManager cooldownManager = new CooldownManager();
+    private final CommandMetrics metrics = new CommandMetrics();
     
     public TempceCommandExecutor(CommandManager commandManager) {
         this.commandManager = commandManager;
     }
     
+    /**
+     * コマンドIDの採番を取得
+     */
+    public CommandIdRegistry getCommandIds() {
+        return commandIds;
+    }
+    
+    /**
+     * クールダウンマネージャーを取得
+     */
+    public CooldownManager getCooldownManager() {
+        return cooldownManager;
+    }
+    
+    /**
+     * 実行統計を取得
+     */
+    public CommandMetrics getMetrics() {
+        return metrics;
+    }
+    
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-        String commandName = command.getName().toLowerCase();
-        CommandData commandData = commandManager.getCommand(commandName);
+        CommandData commandData = commandManager.getCommand(command.getName());
         
         if (commandData == null) {
-            sender.sendMessage(ChatColor.RED + "不明なコマンドです: " + commandName);
+            sender.sendMessage(ChatColor.RED + "不明なコマンドです: " + command.getName().toLowerCase());
             return true;
         }
         
+        int commandId = resolveCommandId(commandData);
+        
         // 権限チェック
         if (!commandData.getPermission().isEmpty() && !sender.hasPermission(commandData.getPermission())) {
+            metrics.recordPermissionDenial(commandId);
             sender.sendMessage(ChatColor.RED + "このコマンドを実行する権限がありません。");
             return true;
         }
         
         // タイムアウトチェック
         if (commandData.getTimeout() > 0) {
-            String cooldownKey = sender.getName() + ":" + commandName;
-            Long lastUsed = cooldowns.get(cooldownKey);
-            if (lastUsed != null) {
-                long timeLeft = (lastUsed + commandData.getTimeout() * 1000L) - System.currentTimeMillis();
-                if (timeLeft > 0) {
-                    sender.sendMessage(ChatColor.RED + "このコマンドはあと" + (timeLeft / 1000) + "秒後に再度実行できます。");
-                    return true;
-                }
+            long timeLeft = cooldownManager.tryAcquire(sender, commandId, commandData.getTimeout() * 1000L);
+            if (timeLeft > 0) {
+                metrics.recordCooldownRejection(commandId);
+                sender.sendMessage(ChatColor.RED + "このコマンドはあと" + (timeLeft / 1000) + "秒後に再度実行できます。");
+                return true;
             }
-            cooldowns.put(cooldownKey, System.currentTimeMillis());
         }
         
         if (args.length == 0) {
@@ -62,19 +90,29 @@ public class TempceCommandExecutor implements CommandExecutor {
         }
         
         // 多階層パスを構築
-        SubCommandData subCommandData = findSubCommand(commandData, args);
+        CommandNode subCommandNode = findSubCommand(commandData, args);
         
-        if (subCommandData == null) {
+        if (subCommandNode == null) {
             // サブコマンドが見つからない場合、部分パスのヘルプを表示
             if (showPartialPathHelp(sender, commandData, args)) {
                 return true;
             }
             
+            // 数字のみの場合はヘルプのページ指定として扱う
+            int page = args.length == 1 ? HelpPages.parsePage(args[0]) : -1;
+            if (page > 0) {
+                sendCommandHelp(sender, commandData, page);
+                return true;
+            }
+            
             sender.sendMessage(ChatColor.RED + "不明なサブコマンドです: " + String.join(" ", args));
             sendCommandHelp(sender, commandData);
             return true;
         }
         
+        SubCommandData subCommandData = subCommandNode.getSubCommand();
+        int subCommandId = resolveSubCommandId(commandData, subCommandNode);
+        
         // プレイヤー限定チェック
         if (subCommandData.isPlayerOnly() && !(sender instanceof Player)) {
             sender.sendMessage(ChatColor.RED + "このコマンドはプレイヤーのみ実行可能です。");
@@ -83,85 +121,96 @@ public class TempceCommandExecutor implements CommandExecutor {
         
         // 権限チェック
         if (!subCommandData.getPermission().isEmpty() && !sender.hasPermission(subCommandData.getPermission())) {
+            metrics.recordPermissionDenial(subCommandId);
             sender.sendMessage(ChatColor.RED + "このサブコマンドを実行する権限がありません。");
             return true;
         }
         
-        // サブコマンドタイムアウトチェック
+        // サブコマンド実行 - パスのレベル分だけ引数をスキップ
+        int pathLevels = subCommandData.getDepth();
+        String[] subArgs = new String[Math.max(0, args.length - pathLevels)];
+        if (subArgs.length > 0) {
+            System.arraycopy(args, pathLevels, subArgs, 0, subArgs.length);
+        }
+        
+        // 型付き引数: 各引数を1回だけ解析してハンドラーに渡す
+        Object[] values = null;
+        if (subCommandData.isTypedBinding()) {
+            values = subCommandData.getBinder().bind(sender, subArgs);
+            if (values == null) {
+                ArgumentValidator.sendUsageMessage(sender, subCommandData);
+                return true;
+            }
+        } else {
+            // 引数定義がある場合は事前構築されたバリデーターで検証
+            CompiledArgumentValidator validator = subCommandData.getValidator();
+            if (validator != null && !validator.validateAndSendErrors(sender, subArgs, subCommandData)) {
+                return true;
+            }
+        }
+        
+        // サブコマンドタイムアウトチェック（引数の検証に失敗した場合はクールダウンを開始しない）
         if (subCommandData.getTimeout() > 0) {
-            String cooldownKey = sender.getName() + ":" + commandName + ":" + subCommandData.getPath();
-            Long lastUsed = cooldowns.get(cooldownKey);
-            if (lastUsed != null) {
-                long timeLeft = (lastUsed + subCommandData.getTimeout() * 1000L) - System.currentTimeMillis();
-                if (timeLeft > 0) {
-                    sender.sendMessage(ChatColor.RED + "このサブコマンドはあと" + (timeLeft / 1000) + "秒後に再度実行できます。");
-                    return true;
-                }
+            long timeLeft = cooldownManager.tryAcquire(sender, subCommandId, subCommandData.getTimeout() * 1000L);
+            if (timeLeft > 0) {
+                metrics.recordCooldownRejection(subCommandId);
+                sender.sendMessage(ChatColor.RED + "このサブコマンドはあと" + (timeLeft / 1000) + "秒後に再度実行できます。");
+                return true;
             }
-            cooldowns.put(cooldownKey, System.currentTimeMillis());
         }
         
-        // サブコマンド実行 - パスのレベル分だけ引数をスキップ
+        long startTime = System.nanoTime();
         try {
-            int pathLevels = subCommandData.getPathLevels().length;
-            String[] subArgs = new String[Math.max(0, args.length - pathLevels)];
-            if (subArgs.length > 0) {
-                System.arraycopy(args, pathLevels, subArgs, 0, subArgs.length);
+            if (values != null) {
+                subCommandData.getBinder().invoke(sender, values);
+            } else {
+                subCommandData.getInvoker().invoke(sender, subArgs);
             }
-            
-            subCommandData.getMethod().invoke(subCommandData.getInstance(), sender, subArgs);
-        } catch (IllegalAccessException | InvocationTargetException e) {
+        } catch (Exception e) {
+            metrics.recordFailure(subCommandId);
             sender.sendMessage(ChatColor.RED + "コマンド実行中にエラーが発生しました。");
             e.printStackTrace();
+        } finally {
+            metrics.recordExecution(subCommandId, System.nanoTime() - startTime);
         }
         
         return true;
     }
     
+    /**
+     * コマンド自体のコマンドIDを取得（登録時に採番されていない場合はここで採番）
+     */
+    private int resolveCommandId(CommandData commandData) {
+        int commandId = commandData.getCommandId();
+        return commandId >= 0 ? commandId : commandIds.getId(commandData.getName(), "");
+    }
+    
+    /**
+     * サブコマンドのコマンドIDを取得（登録時に採番されていない場合はここで採番）
+     */
+    private int resolveSubCommandId(CommandData commandData, CommandNode node) {
+        int commandId = node.getCommandId();
+        return commandId >= 0 ? commandId : commandIds.getId(commandData.getName(), node.getSubCommand().getNormalizedPath());
+    }
+    
     private void sendCommandHelp(CommandSender sender, CommandData commandData) {
-        sender.sendMessage(ChatColor.GREEN + "========== " + commandData.getName() + " ==========");
-        sender.sendMessage(ChatColor.GRAY + commandData.getDescription());
-        sender.sendMessage(ChatColor.YELLOW + "利用可能なサブコマンド:");
-        
-        for (SubCommandData subCmd : commandData.getSubCommands().values()) {
-            if (subCmd.getPermission().isEmpty() || sender.hasPermission(subCmd.getPermission())) {
-                String usage = subCmd.getUsage().isEmpty() ? subCmd.getFirstLevelName() : subCmd.getUsage();
-                sender.sendMessage(ChatColor.AQUA + "  " + usage + " - " + subCmd.getDescription());
-            }
-        }
+        sendCommandHelp(sender, commandData, 1);
     }
     
     /**
-     * 引数からサブコマンドを検索する（多階層対応）
+     * コマンドヘルプの指定ページを送信
      */
-    private SubCommandData findSubCommand(CommandData commandData, String[] args) {
-        // 最長マッチで検索（長いパスから順に試す）
-        for (int length = args.length; length > 0; length--) {
-            StringBuilder pathBuilder = new StringBuilder();
-            for (int i = 0; i < length; i++) {
-                if (i > 0) pathBuilder.append(".");
-                pathBuilder.append(args[i].toLowerCase());
-            }
-            String path = pathBuilder.toString();
-            
-            // 直接パスで検索
-            for (SubCommandData subCmd : commandData.getSubCommands().values()) {
-                if (subCmd.getPath().equalsIgnoreCase(path)) {
-                    return subCmd;
-                }
-            }
-            
-            // エイリアスで検索（第1レベルのみ）
-            if (length == 1) {
-                for (SubCommandData subCmd : commandData.getSubCommands().values()) {
-                    if (subCmd.getAliases().contains(args[0].toLowerCase())) {
-                        return subCmd;
-                    }
-                }
-            }
-        }
-        
-        return null;
+    private void sendCommandHelp(CommandSender sender, CommandData commandData, int page) {
+        // 登録時に組み立てた行から、権限のあるサブコマンドの行を1ページ分まとめて送信する
+        commandData.getHelp().send(sender, commandManager.getPermissionCache(), page);
+    }
+    
+    /**
+     * 引数からサブコマンドのノードを検索する（多階層対応）
+     */
+    private CommandNode findSubCommand(CommandData commandData, String[] args) {
+        // ルーティングトライ木を辿って最長マッチで検索（第1レベルはエイリアスも対象）
+        return commandData.getCommandTree().findLongestMatchNode(args);
     }
     
     /**
@@ -172,74 +221,64 @@ public class TempceCommandExecutor implements CommandExecutor {
      * @return ヘルプを表示した場合はtrue
      */
     private boolean showPartialPathHelp(CommandSender sender, CommandData commandData, String[] args) {
-        // 部分パスを構築
-        StringBuilder partialPath = new StringBuilder();
-        for (int i = 0; i < args.length; i++) {
-            if (i > 0) partialPath.append(".");
-            partialPath.append(args[i].toLowerCase());
+        // 部分パスに対応するノードをトライ木から取得
+        CommandNode targetNode = commandData.getCommandTree().find(args, args.length);
+        if (targetNode == null || targetNode.isLeaf()) {
+            return false; // 該当するサブコマンドがない
         }
-        String targetPath = partialPath.toString();
-        
-        // この部分パスで始まるサブコマンドを検索
-        Map<String, SubCommandData> matchingCommands = new HashMap<>();
-        Set<String> nextLevels = new HashSet<>();
-        
-        for (SubCommandData subCmd : commandData.getSubCommands().values()) {
-            if (subCmd.getPermission().isEmpty() || sender.hasPermission(subCmd.getPermission())) {
-                String cmdPath = subCmd.getPath().toLowerCase();
-                
-                if (cmdPath.startsWith(targetPath + ".")) {
-                    // 部分パスで始まるコマンドを発見
-                    matchingCommands.put(subCmd.getPath(), subCmd);
-                    
-                    // 次のレベルを抽出
-                    String remaining = cmdPath.substring(targetPath.length() + 1);
-                    String nextLevel = remaining.split("\\.")[0];
-                    nextLevels.add(nextLevel);
-                }
+        
+        PermissionCache permissionCache = commandManager.getPermissionCache();
+        StringJoiner message = null;
+        
+        // 権限のある子ノードのみを表示（子ノードは名前順、コマンド数は事前集計から求める）
+        for (CommandNode child : targetNode.getChildren()) {
+            if (!isVisible(sender, child, permissionCache)) {
+                continue;
+            }
+            if (message == null) {
+                message = new StringJoiner("\n");
+                message.add(ChatColor.GREEN + "========== " + String.join(" ", args) + " のサブコマンド ==========");
+                message.add(ChatColor.GRAY + "利用可能なサブコマンド:");
+            }
+            
+            SubCommandData exactMatch = child.getSubCommand();
+            if (exactMatch != null && isPermitted(sender, exactMatch)) {
+                // 完全一致するコマンドがある場合
+                message.add(ChatColor.AQUA + "  " + child.getName() + " - " + exactMatch.getDescription());
+            } else {
+                // さらに深い階層がある場合
+                int deeperCount = child.countDescendants(permission -> permissionCache.hasPermission(sender, permission));
+                message.add(ChatColor.AQUA + "  " + child.getName() + " - サブカテゴリ (" + deeperCount + "個のコマンド)");
             }
         }
         
-        if (matchingCommands.isEmpty()) {
+        if (message == null) {
             return false; // 該当するサブコマンドがない
         }
         
-        // ヘルプを表示
-        sender.sendMessage(ChatColor.GREEN + "========== " + String.join(" ", args) + " のサブコマンド ==========");
-        sender.sendMessage(ChatColor.GRAY + "利用可能なサブコマンド:");
-        
-        // 次のレベルのコマンドを表示
-        for (String nextLevel : nextLevels.stream().sorted().collect(Collectors.toList())) {
-            List<SubCommandData> levelCommands = matchingCommands.values().stream()
-                .filter(cmd -> cmd.getPath().toLowerCase().startsWith(targetPath.toLowerCase() + "." + nextLevel))
-                .collect(Collectors.toList());
-                
-            if (!levelCommands.isEmpty()) {
-                String fullNextPath = targetPath + "." + nextLevel;
-                
-                // 完全一致するコマンドがあるかチェック
-                SubCommandData exactMatch = levelCommands.stream()
-                    .filter(cmd -> cmd.getPath().equalsIgnoreCase(fullNextPath))
-                    .findFirst()
-                    .orElse(null);
-                
-                if (exactMatch != null) {
-                    // 完全一致するコマンドがある場合
-                    sender.sendMessage(ChatColor.AQUA + "  " + nextLevel + " - " + exactMatch.getDescription());
-                } else {
-                    // さらに深い階層がある場合
-                    long deeperCount = levelCommands.stream()
-                        .filter(cmd -> cmd.getPath().split("\\.").length > args.length + 1)
-                        .count();
-                    
-                    sender.sendMessage(ChatColor.AQUA + "  " + nextLevel + " - サブカテゴリ (" + deeperCount + "個のコマンド)");
-                }
-            }
-        }
-        
-        sender.sendMessage(ChatColor.GRAY + "使用方法: /" + commandData.getName() + " " + String.join(" ", args) + " <サブコマンド>");
-        sender.sendMessage(ChatColor.GREEN + "================================================");
+        message.add(ChatColor.GRAY + "使用方法: /" + commandData.getName() + " " + String.join(" ", args) + " <サブコマンド>");
+        message.add(ChatColor.GREEN + "================================================");
+        sender.sendMessage(message.toString());
         
         return true;
     }
+    
+    /**
+     * ノード以下に送信者が実行可能なサブコマンドがあるか（集約済みの権限で判定）
+     */
+    private boolean isVisible(CommandSender sender, CommandNode node, PermissionCache permissionCache) {
+        for (String permission : node.getSubtreePermissions()) {
+            if (permissionCache.hasPermission(sender, permission)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 送信者がサブコマンドの権限を持っているか（ヘルプ表示用のため権限キャッシュを参照）
+     */
+    private boolean isPermitted(CommandSender sender, SubCommandData subCommandData) {
+        return commandManager.getPermissionCache().hasPermission(sender, subCommandData.getPermission());
+    }
 }
@@ -2,12 +2,10 @@ package com.Tempce.tempceLib.command.helper;
 
 import com.Tempce.tempceLib.command.data.ArgumentData;
 import com.Tempce.tempceLib.command.data.ArgumentType;
+import com.Tempce.tempceLib.command.data.RegistrySnapshot;
 import com.Tempce.tempceLib.command.data.SubCommandData;
-import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 
-import java.util.List;
-
 /**
  * コマンド引数の自動バリデーションとヘルプメッセージ生成ユーティリティ
  */
@@ -21,33 +19,11 @@ public class ArgumentValidator {
      * @return バリデーション成功時true、失敗時false
      */
     public static boolean validateAndSendErrors(CommandSender sender, String[] args, SubCommandData subCommandData) {
-        List<ArgumentData> arguments = subCommandData.getArguments();
-        
-        if (arguments == null || arguments.isEmpty()) {
+        CompiledArgumentValidator validator = subCommandData.getValidator();
+        if (validator == null) {
             return true; // 引数定義がない場合は成功
         }
-        
-        // 必須引数の数をチェック
-        long requiredCount = arguments.stream().filter(ArgumentData::isRequired).count();
-        if (args.length < requiredCount) {
-            sendUsageMessage(sender, subCommandData);
-            return false;
-        }
-        
-        // 各引数のバリデーション
-        for (int i = 0; i < Math.min(args.length, arguments.size()); i++) {
-            ArgumentData argDef = arguments.get(i);
-            String value = args[i];
-            
-            String errorMessage = validateArgument(value, argDef, i + 1);
-            if (errorMessage != null) {
-                sender.sendMessage(ChatColor.RED + errorMessage);
-                sendUsageMessage(sender, subCommandData);
-                return false;
-            }
-        }
-        
-        return true;
+        return validator.validateAndSendErrors(sender, args, subCommandData);
     }
     
     /**
@@ -84,6 +60,10 @@ public class ArgumentValidator {
             case COORDINATE_X:
             case COORDINATE_Y:
             case COORDINATE_Z:
+                // 相対座標（~, ~5）は送信者の位置を基準にするため範囲チェックしない
+                if (argDef.getType() != ArgumentType.DOUBLE && isRelativeCoordinate(value)) {
+                    break;
+                }
                 try {
                     double doubleValue = Double.parseDouble(value);
                     if (argDef.getMin() != Double.MIN_VALUE && doubleValue < argDef.getMin()) {
@@ -106,13 +86,23 @@ public class ArgumentValidator {
                 }
                 break;
                 
+            case ENCHANTMENT:
+                if (RegistrySnapshot.enchantments().resolve(value) == null) {
+                    return "引数 " + position + " (" + argDef.getName() + ") のエンチャント '" + value + "' が見つかりません。";
+                }
+                break;
+                
+            case POTION_EFFECT:
+                if (RegistrySnapshot.potionEffects().resolve(value) == null) {
+                    return "引数 " + position + " (" + argDef.getName() + ") のポーション効果 '" + value + "' が見つかりません。";
+                }
+                break;
+                
             case ONLINE_PLAYER:
             case ALL_PLAYER:
             case ITEM_ID:
             case ENTITY_ID:
             case WORLD:
-            case ENCHANTMENT:
-            case POTION_EFFECT:
             case STRING:
             default:
                 // 文字列系の引数は基本的にバリデーションしない
@@ -124,98 +114,40 @@ public class ArgumentValidator {
     }
     
     /**
-     * 使用方法メッセージを自動生成して送信
+     * 使用方法メッセージを送信（登録時に組み立てられた行を送信）
      * @param sender コマンド送信者
      * @param subCommandData サブコマンドデータ
      */
     public static void sendUsageMessage(CommandSender sender, SubCommandData subCommandData) {
-        String usage = generateUsageString(subCommandData);
-        sender.sendMessage(ChatColor.RED + "使用方法: " + usage);
-        
-        // 引数の詳細説明も表示
-        if (subCommandData.hasArguments()) {
-            sender.sendMessage(ChatColor.YELLOW + "引数の説明:");
-            for (int i = 0; i < subCommandData.getArguments().size(); i++) {
-                ArgumentData arg = subCommandData.getArguments().get(i);
-                String prefix = arg.isRequired() ? ChatColor.RED + "必須" : ChatColor.GREEN + "任意";
-                StringBuilder argInfo = new StringBuilder();
-                argInfo.append(ChatColor.GRAY).append("  ").append(i + 1).append(". ")
-                       .append(prefix).append(ChatColor.WHITE).append(" ")
-                       .append(arg.getName()).append(" (").append(arg.getType().getDisplayName()).append(")");
-                
-                if (!arg.getDescription().isEmpty()) {
-                    argInfo.append(ChatColor.GRAY).append(" - ").append(arg.getDescription());
-                }
-                
-                if (arg.isNumeric() && (arg.getMin() != Double.MIN_VALUE || arg.getMax() != Double.MAX_VALUE)) {
-                    argInfo.append(ChatColor.GRAY).append(" [");
-                    if (arg.getMin() != Double.MIN_VALUE) {
-                        argInfo.append("最小: ").append(formatNumber(arg.getMin()));
-                    }
-                    if (arg.getMax() != Double.MAX_VALUE) {
-                        if (arg.getMin() != Double.MIN_VALUE) argInfo.append(", ");
-                        argInfo.append("最大: ").append(formatNumber(arg.getMax()));
-                    }
-                    argInfo.append("]");
-                }
-                
-                if (!arg.isRequired() && !arg.getDefaultValue().isEmpty()) {
-                    argInfo.append(ChatColor.GRAY).append(" (デフォルト: ").append(arg.getDefaultValue()).append(")");
-                }
-                
-                sender.sendMessage(argInfo.toString());
-            }
-        }
+        subCommandData.getHelp().sendUsage(sender);
     }
     
     /**
-     * 使用方法文字列を自動生成
+     * 使用方法文字列を取得（登録時に組み立て済み）
      * @param subCommandData サブコマンドデータ
      * @return 使用方法文字列
      */
     public static String generateUsageString(SubCommandData subCommandData) {
-        StringBuilder usage = new StringBuilder();
-        
-        // コマンド名の取得（仮定：親コマンド名は外部から取得）
-        // この部分は実際の実装では親コマンド名を渡すか、SubCommandDataに含める必要があります
-        usage.append("/").append(getCommandName(subCommandData));
-        
-        // サブコマンドパス
-        if (!subCommandData.getPath().isEmpty()) {
-            usage.append(" ").append(subCommandData.getPath().replace(".", " "));
-        }
-        
-        // 引数
-        if (subCommandData.hasArguments()) {
-            for (ArgumentData arg : subCommandData.getArguments()) {
-                usage.append(" ");
-                if (arg.isRequired()) {
-                    usage.append("<").append(arg.getName()).append(">");
-                } else {
-                    usage.append("[").append(arg.getName()).append("]");
-                }
-            }
-        }
-        
-        return usage.toString();
+        return subCommandData.getHelp().getUsage();
     }
     
     /**
-     * 数値を適切にフォーマット
+     * 相対座標（~ または ~ に続く数値）かどうか
+     * @param value 入力値
+     * @return 相対座標の場合はtrue
      */
-    private static String formatNumber(double value) {
-        if (value == (long) value) {
-            return String.valueOf((long) value);
-        } else {
-            return String.valueOf(value);
+    public static boolean isRelativeCoordinate(String value) {
+        if (value.isEmpty() || value.charAt(0) != '~') {
+            return false;
+        }
+        if (value.length() == 1) {
+            return true;
+        }
+        try {
+            Double.parseDouble(value.substring(1));
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
         }
-    }
-    
-    /**
-     * コマンド名を取得
-     */
-    private static String getCommandName(SubCommandData subCommandData) {
-        return subCommandData.getParentCommandName() != null ? 
-               subCommandData.getParentCommandName() : "command";
     }
 }
@@ -2,11 +2,18 @@ package com.Tempce.tempceLib.command.helper;
 
 import com.Tempce.tempceLib.command.annotations.Command;
 import com.Tempce.tempceLib.command.data.SubCommandData;
+import com.Tempce.tempceLib.command.permission.PermissionCache;
 import org.bukkit.ChatColor;
 import org.bukkit.command.CommandSender;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * 自動生成されるヘルプコマンドの実行クラス
@@ -15,10 +22,23 @@ public class AutoHelpExecutor {
     
     private final Command commandAnnotation;
     private final Map<String, SubCommandData> subCommands;
+    private final PermissionCache permissionCache;
+    private volatile HelpPages generalHelp;
     
     public AutoHelpExecutor(Command commandAnnotation, Map<String, SubCommandData> subCommands) {
+        this(commandAnnotation, subCommands, null);
+    }
+    
+    /**
+     * @param commandAnnotation コマンドアノテーション
+     * @param subCommands サブコマンド
+     * @param permissionCache 権限キャッシュ（nullの場合は毎回権限を問い合わせる）
+     */
+    public AutoHelpExecutor(Command commandAnnotation, Map<String, SubCommandData> subCommands,
+                            PermissionCache permissionCache) {
         this.commandAnnotation = commandAnnotation;
         this.subCommands = subCommands;
+        this.permissionCache = permissionCache;
     }
     
     /**
@@ -28,72 +48,108 @@ public class AutoHelpExecutor {
      */
     public void executeHelp(CommandSender sender, String[] args) {
         if (args.length > 0 && !args[0].isEmpty()) {
-            // 特定のサブコマンドのヘルプを表示
-            showSubCommandHelp(sender, args[0]);
+            int page = HelpPages.parsePage(args[0]);
+            if (page > 0 && !subCommands.containsKey(args[0])) {
+                // 全体のヘルプの指定ページを表示
+                showGeneralHelp(sender, page);
+            } else {
+                // 特定のサブコマンドのヘルプを表示
+                showSubCommandHelp(sender, args[0]);
+            }
         } else {
             // 全体のヘルプを表示
-            showGeneralHelp(sender);
+            showGeneralHelp(sender, 1);
         }
     }
     
     /**
      * 全体のヘルプを表示する
      * @param sender コマンド送信者
+     * @param page ページ番号（1から）
      */
-    private void showGeneralHelp(CommandSender sender) {
+    private void showGeneralHelp(CommandSender sender, int page) {
+        // 権限のあるサブコマンドのみを1ページ分まとめて表示
+        getGeneralHelp().send(sender, permission -> isPermitted(sender, permission), page);
+    }
+    
+    /**
+     * 全体のヘルプの表示行を取得する
+     * "help"サブコマンド自体の登録後に組み立てるため、初回表示時に一度だけ構築する
+     */
+    private HelpPages getGeneralHelp() {
+        HelpPages help = generalHelp;
+        if (help == null) {
+            help = compileGeneralHelp();
+            generalHelp = help;
+        }
+        return help;
+    }
+    
+    private HelpPages compileGeneralHelp() {
         String commandName = commandAnnotation.name();
         
-        sender.sendMessage(ChatColor.GOLD + "========== " + commandName.toUpperCase() + " ヘルプ ==========");
-        sender.sendMessage(ChatColor.YELLOW + "説明: " + ChatColor.WHITE + commandAnnotation.description());
+        List<String> header = new ArrayList<>();
+        header.add(ChatColor.GOLD + "========== " + commandName.toUpperCase() + " ヘルプ ==========");
+        header.add(ChatColor.YELLOW + "説明: " + ChatColor.WHITE + commandAnnotation.description());
         
         if (!commandAnnotation.usage().isEmpty()) {
-            sender.sendMessage(ChatColor.YELLOW + "使用方法: " + ChatColor.WHITE + commandAnnotation.usage());
+            header.add(ChatColor.YELLOW + "使用方法: " + ChatColor.WHITE + commandAnnotation.usage());
         }
         
         if (commandAnnotation.alias().length > 0) {
-            sender.sendMessage(ChatColor.YELLOW + "エイリアス: " + ChatColor.WHITE + 
+            header.add(ChatColor.YELLOW + "エイリアス: " + ChatColor.WHITE + 
                 String.join(", ", commandAnnotation.alias()));
         }
         
         if (!commandAnnotation.permission().isEmpty()) {
-            sender.sendMessage(ChatColor.YELLOW + "必要権限: " + ChatColor.WHITE + commandAnnotation.permission());
+            header.add(ChatColor.YELLOW + "必要権限: " + ChatColor.WHITE + commandAnnotation.permission());
         }
         
         if (commandAnnotation.timeout() > 0) {
-            sender.sendMessage(ChatColor.YELLOW + "クールダウン: " + ChatColor.WHITE + commandAnnotation.timeout() + "秒");
+            header.add(ChatColor.YELLOW + "クールダウン: " + ChatColor.WHITE + commandAnnotation.timeout() + "秒");
         }
         
-        sender.sendMessage(ChatColor.AQUA + "利用可能なサブコマンド:");
+        header.add(ChatColor.AQUA + "利用可能なサブコマンド:");
         
-        // 権限のあるサブコマンドのみを表示
-        subCommands.values().stream()
-            .filter(subCmd -> subCmd.getPermission().isEmpty() || sender.hasPermission(subCmd.getPermission()))
-            .collect(Collectors.groupingBy(SubCommandData::getFirstLevelName)) // 重複を除去
-            .values().stream()
-            .map(list -> list.get(0)) // 各グループの最初の要素を取得
-            .sorted((a, b) -> a.getFirstLevelName().compareTo(b.getFirstLevelName()))
-            .forEach(subCmd -> {
-                StringBuilder line = new StringBuilder();
-                line.append(ChatColor.GREEN).append("  /").append(commandName)
-                    .append(" ").append(subCmd.getFirstLevelName());
-                
-                if (!subCmd.getAliases().isEmpty()) {
-                    line.append(ChatColor.GRAY).append(" (")
-                        .append(String.join(", ", subCmd.getAliases())).append(")");
-                }
-                
-                line.append(ChatColor.WHITE).append(" - ").append(subCmd.getDescription());
-                
-                // 多階層の場合はパス全体を表示
-                if (!subCmd.getPath().equals(subCmd.getFirstLevelName())) {
-                    line.append(ChatColor.GRAY).append(" [パス: ").append(subCmd.getPath()).append("]");
+        // 第1レベル名ごとにまとめる（エイリアスのエントリは同じインスタンスのため除外）
+        Map<String, List<SubCommandData>> grouped = new TreeMap<>();
+        Set<SubCommandData> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (SubCommandData subCmd : subCommands.values()) {
+            if (seen.add(subCmd)) {
+                grouped.computeIfAbsent(subCmd.getFirstLevelName(), key -> new ArrayList<>()).add(subCmd);
+            }
+        }
+        
+        SubCommandData[][] groups = new SubCommandData[grouped.size()][];
+        List<String> permissions = new ArrayList<>();
+        int index = 0;
+        for (List<SubCommandData> group : grouped.values()) {
+            group.sort(Comparator.comparing(SubCommandData::getNormalizedPath));
+            groups[index++] = group.toArray(new SubCommandData[0]);
+            for (SubCommandData subCmd : group) {
+                permissions.add(subCmd.getPermission());
+            }
+        }
+        
+        String[] footer = {
+            ChatColor.GRAY + "詳細情報: /" + commandName + " help <サブコマンド>",
+            ChatColor.GOLD + "======================================="
+        };
+        
+        // 第1レベル名ごとに、権限のある最初のサブコマンドの行を表示する
+        return new HelpPages(header.toArray(new String[0]), footer, "/" + commandName + " help", permissions,
+            permitted -> {
+                List<String> lines = new ArrayList<>();
+                for (SubCommandData[] group : groups) {
+                    for (SubCommandData subCmd : group) {
+                        if (permitted.test(subCmd.getPermission())) {
+                            lines.add(subCmd.getHelp().getListLine());
+                            break;
+                        }
+                    }
                 }
-                
-                sender.sendMessage(line.toString());
+                return lines;
             });
-        
-        sender.sendMessage(ChatColor.GRAY + "詳細情報: /" + commandName + " help <サブコマンド>");
-        sender.sendMessage(ChatColor.GOLD + "=======================================");
     }
     
     /**
@@ -111,38 +167,25 @@ public class AutoHelpExecutor {
         }
         
         // 権限チェック
-        if (!subCommand.getPermission().isEmpty() && !sender.hasPermission(subCommand.getPermission())) {
+        if (!isPermitted(sender, subCommand)) {
             sender.sendMessage(ChatColor.RED + "そのサブコマンドの情報を表示する権限がありません。");
             return;
         }
         
-        String commandName = commandAnnotation.name();
-        
-        sender.sendMessage(ChatColor.GOLD + "========== " + subCommand.getFirstLevelName().toUpperCase() + " ヘルプ ==========");
-        sender.sendMessage(ChatColor.YELLOW + "コマンド: " + ChatColor.WHITE + "/" + commandName + " " + subCommand.getPath());
-        sender.sendMessage(ChatColor.YELLOW + "説明: " + ChatColor.WHITE + subCommand.getDescription());
-        
-        if (!subCommand.getUsage().isEmpty()) {
-            sender.sendMessage(ChatColor.YELLOW + "使用方法: " + ChatColor.WHITE + "/" + commandName + " " + subCommand.getUsage());
-        }
-        
-        if (!subCommand.getAliases().isEmpty()) {
-            sender.sendMessage(ChatColor.YELLOW + "エイリアス: " + ChatColor.WHITE + 
-                String.join(", ", subCommand.getAliases()));
-        }
-        
-        if (!subCommand.getPermission().isEmpty()) {
-            sender.sendMessage(ChatColor.YELLOW + "必要権限: " + ChatColor.WHITE + subCommand.getPermission());
-        }
-        
-        if (subCommand.getTimeout() > 0) {
-            sender.sendMessage(ChatColor.YELLOW + "クールダウン: " + ChatColor.WHITE + subCommand.getTimeout() + "秒");
-        }
-        
-        if (subCommand.isPlayerOnly()) {
-            sender.sendMessage(ChatColor.YELLOW + "制限: " + ChatColor.WHITE + "プレイヤーのみ実行可能");
+        subCommand.getHelp().sendDetail(sender);
+    }
+    
+    /**
+     * 送信者がサブコマンドの権限を持っているか
+     */
+    private boolean isPermitted(CommandSender sender, SubCommandData subCommand) {
+        return isPermitted(sender, subCommand.getPermission());
+    }
+    
+    private boolean isPermitted(CommandSender sender, String permission) {
+        if (permissionCache != null) {
+            return permissionCache.hasPermission(sender, permission);
         }
-        
-        sender.sendMessage(ChatColor.GOLD + "========================================");
+        return permission.isEmpty() || sender.hasPermission(permission);
     }
 }
@@ -0,0 +1,83 @@
+package com.Tempce.tempceLib.command.helper;
+
+import com.Tempce.tempceLib.command.data.SubCommandData;
+import com.Tempce.tempceLib.command.permission.PermissionCache;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * コマンドの概要（引数なしで実行した場合などに表示）の表示行
+ * コマンドの登録時に一度だけ組み立てられ、表示時は権限のあるサブコマンドの行を選び、1ページ分を1回で送信します
+ */
+public final class CommandHelp {
+
+    private final HelpPages pages;
+
+    private CommandHelp(HelpPages pages) {
+        this.pages = pages;
+    }
+
+    /**
+     * コマンドの概要を組み立てる
+     * @param name コマンド名
+     * @param description コマンドの説明
+     * @param subCommands サブコマンドマップ（エイリアスのエントリを含む）
+     * @return 概要の表示行
+     */
+    public static CommandHelp compile(String name, String description, Map<String, SubCommandData> subCommands) {
+        String[] header = {
+            ChatColor.GREEN + "========== " + name + " ==========",
+            ChatColor.GRAY + description,
+            ChatColor.YELLOW + "利用可能なサブコマンド:"
+        };
+
+        // エイリアスのエントリは同じインスタンスを指すため、インスタンス単位で重複を除いてパス順に並べる
+        Set<SubCommandData> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(subCommands.values());
+        SubCommandData[] entries = distinct.toArray(new SubCommandData[0]);
+        Arrays.sort(entries, Comparator.comparing(SubCommandData::getNormalizedPath));
+
+        List<String> permissions = new ArrayList<>();
+        for (SubCommandData entry : entries) {
+            permissions.add(entry.getPermission());
+        }
+
+        return new CommandHelp(new HelpPages(header, new String[0], "/" + name, permissions, permitted -> {
+            List<String> lines = new ArrayList<>();
+            for (SubCommandData entry : entries) {
+                if (permitted.test(entry.getPermission())) {
+                    lines.add(entry.getHelp().getSummaryLine());
+                }
+            }
+            return lines;
+        }));
+    }
+
+    /**
+     * 概要の1ページ目を送信する（権限のあるサブコマンドのみ）
+     * @param sender コマンド送信者
+     * @param permissionCache 権限キャッシュ
+     */
+    public void send(CommandSender sender, PermissionCache permissionCache) {
+        send(sender, permissionCache, 1);
+    }
+
+    /**
+     * 概要の指定ページを送信する（権限のあるサブコマンドのみ）
+     * @param sender コマンド送信者
+     * @param permissionCache 権限キャッシュ
+     * @param page ページ番号（1から）
+     */
+    public void send(CommandSender sender, PermissionCache permissionCache, int page) {
+        pages.send(sender, permission -> permissionCache.hasPermission(sender, permission), page);
+    }
+}
@@ -0,0 +1,160 @@
+package com.Tempce.tempceLib.command.helper;
+
+import com.Tempce.tempceLib.command.data.ArgumentData;
+import com.Tempce.tempceLib.command.data.RegistrySnapshot;
+import com.Tempce.tempceLib.command.data.SubCommandData;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+import java.util.List;
+
+/**
+ * 登録時に事前構築される引数バリデーター
+ * 必須引数の数と引数タイプごとの判定処理をあらかじめ決定しておき、
+ * 成功時はメッセージを組み立てずに判定のみを行います（メッセージは失敗時のみ生成）
+ */
+public class CompiledArgumentValidator {
+
+    private final ArgumentData[] arguments;
+    private final Check[] checks;
+    private final int requiredCount;
+
+    private CompiledArgumentValidator(List<ArgumentData> arguments) {
+        this.arguments = arguments.toArray(new ArgumentData[0]);
+        this.checks = new Check[this.arguments.length];
+
+        int required = 0;
+        for (int i = 0; i < this.arguments.length; i++) {
+            checks[i] = checkOf(this.arguments[i]);
+            if (this.arguments[i].isRequired()) {
+                required++;
+            }
+        }
+        this.requiredCount = required;
+    }
+
+    /**
+     * 引数定義からバリデーターを構築する
+     * @param arguments 引数定義
+     * @return バリデーター（引数定義がない場合はnull）
+     */
+    public static CompiledArgumentValidator compile(List<ArgumentData> arguments) {
+        if (arguments == null || arguments.isEmpty()) {
+            return null;
+        }
+        return new CompiledArgumentValidator(arguments);
+    }
+
+    /**
+     * 必須引数の数を取得
+     */
+    public int getRequiredCount() {
+        return requiredCount;
+    }
+
+    /**
+     * 引数が有効かどうかを判定する（メッセージは生成しない）
+     * @param args 引数（サブコマンドパスを除く）
+     * @return 有効な場合はtrue
+     */
+    public boolean isValid(String[] args) {
+        if (args.length < requiredCount) {
+            return false;
+        }
+        int count = Math.min(args.length, checks.length);
+        for (int i = 0; i < count; i++) {
+            String value = args[i];
+            if (value == null || value.isBlank()) {
+                if (arguments[i].isRequired()) {
+                    return false;
+                }
+                continue;
+            }
+            if (!checks[i].test(value, arguments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 引数を検証し、無効な場合はエラーメッセージと使用方法を送信する
+     * @param sender コマンド送信者
+     * @param args 引数（サブコマンドパスを除く）
+     * @param subCommandData サブコマンドデータ
+     * @return 有効な場合はtrue
+     */
+    public boolean validateAndSendErrors(CommandSender sender, String[] args, SubCommandData subCommandData) {
+        if (isValid(args)) {
+            return true;
+        }
+
+        // 失敗時のみメッセージを組み立てる
+        if (args.length >= requiredCount) {
+            int count = Math.min(args.length, arguments.length);
+            for (int i = 0; i < count; i++) {
+                String errorMessage = ArgumentValidator.validateArgument(args[i], arguments[i], i + 1);
+                if (errorMessage != null) {
+                    sender.sendMessage(ChatColor.RED + errorMessage);
+                    break;
+                }
+            }
+        }
+        ArgumentValidator.sendUsageMessage(sender, subCommandData);
+        return false;
+    }
+
+    /**
+     * 引数タイプに応じた判定処理（{@link ArgumentValidator#validateArgument} と同じ基準）
+     */
+    private static Check checkOf(ArgumentData argument) {
+        switch (argument.getType()) {
+            case INTEGER:
+                return CompiledArgumentValidator::isValidInteger;
+            case DOUBLE:
+                return CompiledArgumentValidator::isValidDouble;
+            case COORDINATE_X:
+            case COORDINATE_Y:
+            case COORDINATE_Z:
+                return (value, arg) -> ArgumentValidator.isRelativeCoordinate(value) || isValidDouble(value, arg);
+            case BOOLEAN:
+                return (value, arg) -> value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false") ||
+                    value.equalsIgnoreCase("on") || value.equalsIgnoreCase("off") ||
+                    value.equalsIgnoreCase("yes") || value.equalsIgnoreCase("no");
+            case ENCHANTMENT:
+                return (value, arg) -> RegistrySnapshot.enchantments().resolve(value) != null;
+            case POTION_EFFECT:
+                return (value, arg) -> RegistrySnapshot.potionEffects().resolve(value) != null;
+            default:
+                // 文字列系の引数はバリデーションしない
+                return (value, arg) -> true;
+        }
+    }
+
+    private static boolean isValidInteger(String value, ArgumentData argument) {
+        int intValue;
+        try {
+            intValue = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return (argument.getMin() == Double.MIN_VALUE || intValue >= argument.getMin())
+            && (argument.getMax() == Double.MAX_VALUE || intValue <= argument.getMax());
+    }
+
+    private static boolean isValidDouble(String value, ArgumentData argument) {
+        double doubleValue;
+        try {
+            doubleValue = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return (argument.getMin() == Double.MIN_VALUE || doubleValue >= argument.getMin())
+            && (argument.getMax() == Double.MAX_VALUE || doubleValue <= argument.getMax());
+    }
+
+    @FunctionalInterface
+    private interface Check {
+        boolean test(String value, ArgumentData argument);
+    }
+}
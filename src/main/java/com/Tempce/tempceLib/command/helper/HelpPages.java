@@ -0,0 +1,154 @@
+package com.Tempce.tempceLib.command.helper;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * ページ分割されたヘルプ
+ * 送信者が持つ権限の組み合わせ（権限スナップショット）ごとに各ページを複数行の1メッセージとして組み立ててキャッシュし、
+ * 表示時は該当ページを1回の送信で出力します
+ */
+public final class HelpPages {
+
+    /** 1ページあたりのサブコマンド行数 */
+    public static final int LINES_PER_PAGE = 8;
+
+    /** キャッシュする権限スナップショットの上限（超えた場合は破棄して作り直す） */
+    private static final int MAX_CACHED_SNAPSHOTS = 64;
+
+    private final String[] header;
+    private final String[] footer;
+    private final String pageCommand;
+    private final String[] permissions;
+    private final Map<String, Integer> permissionIndex;
+    private final Function<Predicate<String>, List<String>> selector;
+    private final Map<BitSet, String[]> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * @param header 各ページの先頭に表示する行
+     * @param footer 各ページの末尾に表示する行
+     * @param pageCommand ページ指定に使うコマンド（例: /command help）
+     * @param permissions 表示内容に影響する権限
+     * @param selector 権限の判定から表示するサブコマンド行を選ぶ関数
+     */
+    public HelpPages(String[] header, String[] footer, String pageCommand, Collection<String> permissions,
+                     Function<Predicate<String>, List<String>> selector) {
+        this.header = header.clone();
+        this.footer = footer.clone();
+        this.pageCommand = pageCommand;
+
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String permission : permissions) {
+            if (!permission.isEmpty()) {
+                distinct.add(permission);
+            }
+        }
+        this.permissions = distinct.toArray(new String[0]);
+        this.permissionIndex = new HashMap<>();
+        for (int i = 0; i < this.permissions.length; i++) {
+            permissionIndex.put(this.permissions[i], i);
+        }
+        this.selector = selector;
+    }
+
+    /**
+     * 指定ページを送信する
+     * @param sender コマンド送信者
+     * @param permissionCheck 送信者が権限を持っているかの判定
+     * @param page ページ番号（1から）
+     */
+    public void send(CommandSender sender, Predicate<String> permissionCheck, int page) {
+        BitSet snapshot = new BitSet(permissions.length);
+        for (int i = 0; i < permissions.length; i++) {
+            if (permissionCheck.test(permissions[i])) {
+                snapshot.set(i);
+            }
+        }
+
+        String[] pages = snapshots.get(snapshot);
+        if (pages == null) {
+            pages = buildPages(snapshot);
+            if (snapshots.size() >= MAX_CACHED_SNAPSHOTS) {
+                snapshots.clear();
+            }
+            snapshots.put(snapshot, pages);
+        }
+
+        if (page < 1 || page > pages.length) {
+            sender.sendMessage(ChatColor.RED + "ページ " + page + " は存在しません。（1〜" + pages.length + "）");
+            return;
+        }
+        sender.sendMessage(pages[page - 1]);
+    }
+
+    /**
+     * キャッシュ済みの権限スナップショット数を取得
+     */
+    public int getCachedSnapshotCount() {
+        return snapshots.size();
+    }
+
+    /**
+     * ページ番号として解釈できる文字列であれば、その値を返す
+     * @param input 入力文字列
+     * @return ページ番号（解釈できない場合は-1）
+     */
+    public static int parsePage(String input) {
+        if (input.isEmpty() || input.length() > 9) {
+            return -1;
+        }
+        int page = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            page = page * 10 + (c - '0');
+        }
+        return page;
+    }
+
+    private String[] buildPages(BitSet snapshot) {
+        List<String> lines = selector.apply(permission -> {
+            if (permission.isEmpty()) {
+                return true;
+            }
+            Integer index = permissionIndex.get(permission);
+            return index != null && snapshot.get(index);
+        });
+
+        int pageCount = Math.max(1, (lines.size() + LINES_PER_PAGE - 1) / LINES_PER_PAGE);
+        String[] pages = new String[pageCount];
+        for (int page = 0; page < pageCount; page++) {
+            StringJoiner message = new StringJoiner("\n");
+            for (String line : header) {
+                message.add(line);
+            }
+            int end = Math.min(lines.size(), (page + 1) * LINES_PER_PAGE);
+            for (int i = page * LINES_PER_PAGE; i < end; i++) {
+                message.add(lines.get(i));
+            }
+            if (pageCount > 1) {
+                message.add(ChatColor.GRAY + "ページ " + (page + 1) + "/" + pageCount
+                    + " - " + pageCommand + " <ページ>");
+            }
+            for (String line : footer) {
+                message.add(line);
+            }
+            pages[page] = message.toString();
+        }
+        return pages;
+    }
+}
@@ -0,0 +1,228 @@
+package com.Tempce.tempceLib.command.helper;
+
+import com.Tempce.tempceLib.command.data.ArgumentData;
+import com.Tempce.tempceLib.command.data.SubCommandData;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * サブコマンドのヘルプ・使用方法の表示行
+ * サブコマンドの登録時に一度だけ組み立てられる不変オブジェクトで、表示時は組み立て済みの行をそのまま送信します
+ */
+public final class SubCommandHelp {
+
+    private final String usage;
+    private final String[] usageLines;
+    private final String summaryLine;
+    private final String listLine;
+    private final String[] detailLines;
+
+    private SubCommandHelp(String usage, String[] usageLines, String summaryLine, String listLine, String[] detailLines) {
+        this.usage = usage;
+        this.usageLines = usageLines;
+        this.summaryLine = summaryLine;
+        this.listLine = listLine;
+        this.detailLines = detailLines;
+    }
+
+    /**
+     * サブコマンドの表示行を組み立てる
+     * @param subCommand サブコマンドデータ（パス・引数定義などの構築が完了していること）
+     * @return 表示行
+     */
+    public static SubCommandHelp compile(SubCommandData subCommand) {
+        String commandName = subCommand.getParentCommandName() != null ? subCommand.getParentCommandName() : "command";
+        String usage = buildUsage(commandName, subCommand);
+        return new SubCommandHelp(
+            usage,
+            buildUsageLines(usage, subCommand),
+            buildSummaryLine(subCommand),
+            buildListLine(commandName, subCommand),
+            buildDetailLines(commandName, subCommand)
+        );
+    }
+
+    /**
+     * 使用方法の文字列（例: /command path &lt;必須&gt; [任意]）
+     */
+    public String getUsage() {
+        return usage;
+    }
+
+    /**
+     * 使用方法と引数の説明の行（引数の検証に失敗した場合に表示）
+     */
+    public String[] getUsageLines() {
+        return usageLines.clone();
+    }
+
+    /**
+     * コマンドの概要に表示する1行
+     */
+    public String getSummaryLine() {
+        return summaryLine;
+    }
+
+    /**
+     * 自動ヘルプのサブコマンド一覧に表示する1行
+     */
+    public String getListLine() {
+        return listLine;
+    }
+
+    /**
+     * 自動ヘルプのサブコマンド詳細の行
+     */
+    public String[] getDetailLines() {
+        return detailLines.clone();
+    }
+
+    /**
+     * 使用方法の行を送信する（配列を複製せずに送信）
+     */
+    void sendUsage(CommandSender sender) {
+        for (String line : usageLines) {
+            sender.sendMessage(line);
+        }
+    }
+
+    /**
+     * サブコマンド詳細の行を送信する（配列を複製せずに送信）
+     */
+    void sendDetail(CommandSender sender) {
+        for (String line : detailLines) {
+            sender.sendMessage(line);
+        }
+    }
+
+    private static String buildUsage(String commandName, SubCommandData subCommand) {
+        StringBuilder usage = new StringBuilder();
+        usage.append("/").append(commandName);
+
+        // サブコマンドパス
+        if (!subCommand.getPath().isEmpty()) {
+            usage.append(" ").append(subCommand.getPath().replace(".", " "));
+        }
+
+        // 引数
+        for (ArgumentData arg : subCommand.getArguments()) {
+            usage.append(" ");
+            if (arg.isRequired()) {
+                usage.append("<").append(arg.getName()).append(">");
+            } else {
+                usage.append("[").append(arg.getName()).append("]");
+            }
+        }
+
+        return usage.toString();
+    }
+
+    private static String[] buildUsageLines(String usage, SubCommandData subCommand) {
+        List<String> lines = new ArrayList<>();
+        lines.add(ChatColor.RED + "使用方法: " + usage);
+
+        // 引数の詳細説明
+        if (subCommand.hasArguments()) {
+            lines.add(ChatColor.YELLOW + "引数の説明:");
+            for (int i = 0; i < subCommand.getArguments().size(); i++) {
+                ArgumentData arg = subCommand.getArguments().get(i);
+                String prefix = arg.isRequired() ? ChatColor.RED + "必須" : ChatColor.GREEN + "任意";
+                StringBuilder argInfo = new StringBuilder();
+                argInfo.append(ChatColor.GRAY).append("  ").append(i + 1).append(". ")
+                       .append(prefix).append(ChatColor.WHITE).append(" ")
+                       .append(arg.getName()).append(" (").append(arg.getType().getDisplayName()).append(")");
+
+                if (!arg.getDescription().isEmpty()) {
+                    argInfo.append(ChatColor.GRAY).append(" - ").append(arg.getDescription());
+                }
+
+                if (arg.isNumeric() && (arg.getMin() != Double.MIN_VALUE || arg.getMax() != Double.MAX_VALUE)) {
+                    argInfo.append(ChatColor.GRAY).append(" [");
+                    if (arg.getMin() != Double.MIN_VALUE) {
+                        argInfo.append("最小: ").append(formatNumber(arg.getMin()));
+                    }
+                    if (arg.getMax() != Double.MAX_VALUE) {
+                        if (arg.getMin() != Double.MIN_VALUE) argInfo.append(", ");
+                        argInfo.append("最大: ").append(formatNumber(arg.getMax()));
+                    }
+                    argInfo.append("]");
+                }
+
+                if (!arg.isRequired() && !arg.getDefaultValue().isEmpty()) {
+                    argInfo.append(ChatColor.GRAY).append(" (デフォルト: ").append(arg.getDefaultValue()).append(")");
+                }
+
+                lines.add(argInfo.toString());
+            }
+        }
+        return lines.toArray(new String[0]);
+    }
+
+    private static String buildSummaryLine(SubCommandData subCommand) {
+        String usage = subCommand.getUsage().isEmpty() ? subCommand.getFirstLevelName() : subCommand.getUsage();
+        return ChatColor.AQUA + "  " + usage + " - " + subCommand.getDescription();
+    }
+
+    private static String buildListLine(String commandName, SubCommandData subCommand) {
+        StringBuilder line = new StringBuilder();
+        line.append(ChatColor.GREEN).append("  /").append(commandName)
+            .append(" ").append(subCommand.getFirstLevelName());
+
+        if (!subCommand.getAliases().isEmpty()) {
+            line.append(ChatColor.GRAY).append(" (")
+                .append(String.join(", ", subCommand.getAliases())).append(")");
+        }
+
+        line.append(ChatColor.WHITE).append(" - ").append(subCommand.getDescription());
+
+        // 多階層の場合はパス全体を表示
+        if (subCommand.getDepth() > 1) {
+            line.append(ChatColor.GRAY).append(" [パス: ").append(subCommand.getPath()).append("]");
+        }
+        return line.toString();
+    }
+
+    private static String[] buildDetailLines(String commandName, SubCommandData subCommand) {
+        List<String> lines = new ArrayList<>();
+        lines.add(ChatColor.GOLD + "========== " + subCommand.getFirstLevelName().toUpperCase() + " ヘルプ ==========");
+        lines.add(ChatColor.YELLOW + "コマンド: " + ChatColor.WHITE + "/" + commandName + " " + subCommand.getPath());
+        lines.add(ChatColor.YELLOW + "説明: " + ChatColor.WHITE + subCommand.getDescription());
+
+        if (!subCommand.getUsage().isEmpty()) {
+            lines.add(ChatColor.YELLOW + "使用方法: " + ChatColor.WHITE + "/" + commandName + " " + subCommand.getUsage());
+        }
+
+        if (!subCommand.getAliases().isEmpty()) {
+            lines.add(ChatColor.YELLOW + "エイリアス: " + ChatColor.WHITE + String.join(", ", subCommand.getAliases()));
+        }
+
+        if (!subCommand.getPermission().isEmpty()) {
+            lines.add(ChatColor.YELLOW + "必要権限: " + ChatColor.WHITE + subCommand.getPermission());
+        }
+
+        if (subCommand.getTimeout() > 0) {
+            lines.add(ChatColor.YELLOW + "クールダウン: " + ChatColor.WHITE + subCommand.getTimeout() + "秒");
+        }
+
+        if (subCommand.isPlayerOnly()) {
+            lines.add(ChatColor.YELLOW + "制限: " + ChatColor.WHITE + "プレイヤーのみ実行可能");
+        }
+
+        lines.add(ChatColor.GOLD + "========================================");
+        return lines.toArray(new String[0]);
+    }
+
+    /**
+     * 数値を適切にフォーマット
+     */
+    private static String formatNumber(double value) {
+        if (value == (long) value) {
+            return String.valueOf((long) value);
+        } else {
+            return String.valueOf(value);
+        }
+    }
+}
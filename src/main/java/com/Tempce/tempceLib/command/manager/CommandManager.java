@@ -4,24 +4,47 @@ import com.Tempce.tempceLib.TempceLib;
 import com.Tempce.tempceLib.command.annotations.Command;
 import com.Tempce.tempceLib.command.annotations.CommandArguments;
 import com.Tempce.tempceLib.command.annotations.SubCommand;
+import com.Tempce.tempceLib.command.brigadier.BrigadierCommandTreeBridge;
+import com.Tempce.tempceLib.command.brigadier.CommandTreeExporter;
+import com.Tempce.tempceLib.command.brigadier.CommandTreeNode;
 import com.Tempce.tempceLib.command.completer.ArgumentTabCompleter;
+import com.Tempce.tempceLib.command.completer.AsyncTabCompleteHandler;
+import com.Tempce.tempceLib.command.completer.CompletionSessionCache;
+import com.Tempce.tempceLib.command.completer.OfflinePlayerIndex;
+import com.Tempce.tempceLib.command.completer.PlayerNameIndex;
 import com.Tempce.tempceLib.command.completer.TempceTabCompleter;
+import com.Tempce.tempceLib.command.cooldown.CooldownManager;
 import com.Tempce.tempceLib.command.data.ArgumentData;
 import com.Tempce.tempceLib.command.data.CommandData;
+import com.Tempce.tempceLib.command.data.CommandIdRegistry;
+import com.Tempce.tempceLib.command.data.CommandNode;
+import com.Tempce.tempceLib.command.data.RegistrySnapshot;
+import com.Tempce.tempceLib.command.data.SortedPrefixIndex;
 import com.Tempce.tempceLib.command.data.SubCommandData;
+import com.Tempce.tempceLib.command.executor.ArgumentBinder;
+import com.Tempce.tempceLib.command.executor.CommandMetrics;
+import com.Tempce.tempceLib.command.executor.InvokerFactory;
 import com.Tempce.tempceLib.command.executor.TempceCommandExecutor;
 import com.Tempce.tempceLib.command.helper.AutoHelpExecutor;
+import com.Tempce.tempceLib.command.permission.PermissionCache;
+import com.Tempce.tempceLib.command.suggestion.SuggestionProviderRegistry;
+import com.Tempce.tempceLib.command.registry.GeneratedCommandRegistry;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandMap;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.SimplePluginManager;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * コマンドシステムの管理クラス
@@ -29,6 +52,17 @@ import java.util.concurrent.ConcurrentHashMap;
 public class CommandManager {
     private final Map<String, CommandData> commands = new ConcurrentHashMap<>();
     private final Map<String, String> aliases = new ConcurrentHashMap<>();
+    private final Map<String, CommandTreeNode> commandTrees = new ConcurrentHashMap<>();
+    private final Set<String> ownedLabels = ConcurrentHashMap.newKeySet(); // CommandMap上でTempceLibのコマンドを指すラベル
+    private final TempceCommandExecutor executor;
+    private final TempceTabCompleter completer;
+    private final PermissionCache permissionCache = new PermissionCache();
+    private final PlayerNameIndex playerNameIndex = new PlayerNameIndex();
+    private final OfflinePlayerIndex offlinePlayerIndex;
+    private final SuggestionProviderRegistry suggestionProviders = new SuggestionProviderRegistry();
+    private final CompletionSessionCache completionSessions = new CompletionSessionCache();
+    private final boolean asyncTabCompletion;
+    private volatile boolean commandTreeExport;
     private CommandMap commandMap;
     
     /**
@@ -36,6 +70,50 @@ public class CommandManager {
      */
     public CommandManager() {
         initializeCommandMap();
+        
+        // すべてのコマンドで共有するエグゼキューターとタブコンプリーター
+        executor = new TempceCommandExecutor(this);
+        completer = new TempceTabCompleter(this);
+        executor.getCooldownManager().start(TempceLib.getInstance());
+        
+        // 権限キャッシュ・補完セッションの破棄イベントを受け取る
+        Bukkit.getPluginManager().registerEvents(permissionCache, TempceLib.getInstance());
+        Bukkit.getPluginManager().registerEvents(completionSessions, TempceLib.getInstance());
+        
+        // オンラインプレイヤー名のインデックスを参加・退出イベントで更新する
+        playerNameIndex.rebuild();
+        Bukkit.getPluginManager().registerEvents(playerNameIndex, TempceLib.getInstance());
+        
+        // エンチャント・ポーション効果のスナップショットをデータパックの再読み込み時に作り直す
+        RegistrySnapshot.registerRefreshListener(TempceLib.getInstance());
+        
+        // 参加したことのあるプレイヤー名のインデックスを非同期で構築する
+        offlinePlayerIndex = new OfflinePlayerIndex(new File(TempceLib.getInstance().getDataFolder(), "players.txt"));
+        offlinePlayerIndex.loadAsync(TempceLib.getInstance());
+        Bukkit.getPluginManager().registerEvents(offlinePlayerIndex, TempceLib.getInstance());
+        
+        // 対応サーバー（Paper）では補完候補をメインスレッド外で計算する
+        asyncTabCompletion = AsyncTabCompleteHandler.register(this, TempceLib.getInstance());
+        if (asyncTabCompletion) {
+            TempceLib.getInstance().getLogger().info("非同期タブ補完を有効化しました");
+        }
+    }
+    
+    /**
+     * コマンドマネージャーを終了する
+     */
+    public void shutdown() {
+        CooldownManager cooldownManager = executor.getCooldownManager();
+        cooldownManager.stop();
+        cooldownManager.clear();
+        permissionCache.invalidateAll();
+        completionSessions.invalidateAll();
+        
+        try {
+            offlinePlayerIndex.save();
+        } catch (IOException e) {
+            TempceLib.getInstance().getLogger().warning("プレイヤー名インデックスの保存に失敗しました: " + e.getMessage());
+        }
     }
     
     /**
@@ -87,8 +165,127 @@ public class CommandManager {
             commandName = commandClass.getSimpleName().toLowerCase();
         }
         
-        // サブコマンドの収集
+        // サブコマンドの収集（生成済みレジストリがあれば優先して使用）
+        GeneratedCommandRegistry registry = findGeneratedRegistry(commandClass);
+        List<SubCommandData> discovered = registry != null
+            ? registry.createSubCommands(commandName, commandInstance)
+            : scanSubCommands(commandClass, commandInstance, commandName);
+        
         Map<String, SubCommandData> subCommands = new HashMap<>();
+        for (SubCommandData subCommandData : discovered) {
+            // フルパスで登録（重要：第1レベルのみではなく、完全なパスで登録）
+            subCommands.put(subCommandData.getNormalizedPath(), subCommandData);
+            
+            // エイリアスの登録（第1レベルのみ対象）
+            if (subCommandData.getDepth() == 1) {
+                for (String alias : subCommandData.getAliasSet()) {
+                    subCommands.put(alias, subCommandData);
+                }
+            }
+        }
+        
+        // 自動ヘルプサブコマンドを追加
+        addAutoHelpSubCommand(subCommands, commandAnnotation, commandName);
+        
+        // コマンドデータの作成（コマンドIDを採番）
+        CommandIdRegistry commandIds = executor.getCommandIds();
+        final String registeredName = commandName;
+        CommandData commandData = new CommandData(
+            commandName,
+            commandAnnotation.permission(),
+            Arrays.asList(commandAnnotation.alias()),
+            commandAnnotation.timeout(),
+            commandAnnotation.description(),
+            commandAnnotation.usage(),
+            commandInstance,
+            subCommands,
+            CommandNode.compile(subCommands, sub -> commandIds.getId(registeredName, sub.getNormalizedPath())), // ルーティングトライ木を事前構築
+            commandIds.getId(commandName, "")
+        );
+        
+        // 権限ノードを権限キャッシュに登録
+        registerPermissionNodes(commandData);
+        
+        // コマンドの登録（クライアント向けのコマンドツリーも事前構築）
+        commands.put(commandName, commandData);
+        commandTrees.put(commandName, CommandTreeExporter.export(commandData));
+        
+        // Bukkitに動的にコマンドを登録
+        registerCommandToBukkit(commandData);
+        
+        // エイリアスの登録
+        for (String alias : commandAnnotation.alias()) {
+            aliases.put(alias.toLowerCase(), commandName);
+        }
+        TempceLib.getInstance().getLogger().info("コマンド '" + commandName + "' を登録しました (サブコマンド: " + subCommands.size() + "個)");
+        
+        // 送信済みのコマンドツリーを更新する
+        if (commandTreeExport) {
+            updateClientCommands();
+        }
+    }
+    
+    /**
+     * クライアントにコマンドツリーを送信する機能を有効化する（Paperのみ）
+     * TempceLibのコマンドの引数構造がクライアントに送信され、構文のハイライトと数値・真偽値の検証がクライアント側で行われます
+     * @return 有効化した場合（有効化済みの場合を含む）はtrue、非対応のサーバーではfalse
+     */
+    public synchronized boolean enableCommandTreeExport() {
+        if (commandTreeExport) {
+            return true;
+        }
+        commandTreeExport = BrigadierCommandTreeBridge.register(this, TempceLib.getInstance());
+        if (commandTreeExport) {
+            updateClientCommands();
+            TempceLib.getInstance().getLogger().info("コマンドツリーの送信を有効化しました");
+        }
+        return commandTreeExport;
+    }
+    
+    /**
+     * オンラインプレイヤーにコマンドツリーを再送信する（メインスレッドからのみ）
+     */
+    private void updateClientCommands() {
+        if (!Bukkit.isPrimaryThread()) {
+            return;
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            player.updateCommands();
+        }
+    }
+    
+    /**
+     * コマンドクラスに対応する生成済みレジストリを取得する
+     * @param commandClass コマンドクラス
+     * @return 生成済みレジストリ（存在しない場合はnull）
+     */
+    private GeneratedCommandRegistry findGeneratedRegistry(Class<?> commandClass) {
+        try {
+            Class<?> registryClass = Class.forName(commandClass.getName() + GeneratedCommandRegistry.SUFFIX,
+                true, commandClass.getClassLoader());
+            if (!GeneratedCommandRegistry.class.isAssignableFrom(registryClass)) {
+                return null;
+            }
+            GeneratedCommandRegistry registry = (GeneratedCommandRegistry) registryClass.getDeclaredConstructor().newInstance();
+            return registry.getCommandClass() == commandClass ? registry : null;
+        } catch (ClassNotFoundException e) {
+            return null; // 生成されていない場合はリフレクションで走査する
+        } catch (Exception | LinkageError e) {
+            TempceLib.getInstance().getLogger().warning("コマンドレジストリ " + commandClass.getName() +
+                GeneratedCommandRegistry.SUFFIX + " の読み込みに失敗しました: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * リフレクションでサブコマンドメソッドを走査する
+     * @param commandClass コマンドクラス
+     * @param commandInstance コマンドインスタンス
+     * @param commandName 親コマンド名
+     * @return サブコマンドデータのリスト
+     */
+    private List<SubCommandData> scanSubCommands(Class<?> commandClass, Object commandInstance, String commandName) {
+        List<SubCommandData> subCommands = new ArrayList<>();
         for (Method method : commandClass.getDeclaredMethods()) {
             if (method.isAnnotationPresent(SubCommand.class)) {
                 SubCommand subCommandAnnotation = method.getAnnotation(SubCommand.class);
@@ -100,13 +297,13 @@ public class CommandManager {
                 }
                 
                 // メソッドパラメータの検証
+                // (CommandSender, String[]) または (CommandSender, 型付き引数...) を受け付ける
                 Class<?>[] paramTypes = method.getParameterTypes();
-                if (paramTypes.length != 2 || 
-                    !CommandSender.class.isAssignableFrom(paramTypes[0]) || 
-                    !String[].class.equals(paramTypes[1])) {
+                if (paramTypes.length == 0 || !CommandSender.class.isAssignableFrom(paramTypes[0])) {
                     throw new IllegalArgumentException("サブコマンドメソッド " + method.getName() + 
                         " のパラメータは (CommandSender, String[]) である必要があります");
                 }
+                boolean typedBinding = !(paramTypes.length == 2 && String[].class.equals(paramTypes[1]));
                 
                 method.setAccessible(true);
                 
@@ -123,12 +320,25 @@ public class CommandManager {
                             arg.defaultValue(),
                             Arrays.asList(arg.suggestions()),
                             arg.min(),
-                            arg.max()
+                            arg.max(),
+                            arg.provider()
                         ));
                     }
                 }
                 
-                SubCommandData subCommandData = new SubCommandData(
+                // 型付き引数の変換処理（引数定義とパラメータ型の不一致はここで検出）
+                ArgumentBinder binder = null;
+                if (typedBinding) {
+                    try {
+                        binder = new ArgumentBinder(arguments, Arrays.copyOfRange(paramTypes, 1, paramTypes.length),
+                            InvokerFactory.createBound(method, commandInstance));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("サブコマンドメソッド " + method.getName() + 
+                            " の型付き引数が @CommandArguments と一致しません: " + e.getMessage(), e);
+                    }
+                }
+                
+                subCommands.add(new SubCommandData(
                     subCommandPath,
                     subCommandAnnotation.permission(),
                     Arrays.asList(subCommandAnnotation.alias()),
@@ -138,59 +348,23 @@ public class CommandManager {
                     subCommandAnnotation.playerOnly(),
                     method,
                     commandInstance,
-                    arguments
-                );
-                
-                // 親コマンド名を設定
-                subCommandData.setParentCommandName(commandName);
-                
-                // フルパスで登録（重要：第1レベルのみではなく、完全なパスで登録）
-                subCommands.put(subCommandPath.toLowerCase(), subCommandData);
-                
-                // エイリアスの登録（第1レベルのみ対象）
-                String[] pathParts = subCommandPath.split("\\.");
-                if (pathParts.length == 1) {
-                    for (String alias : subCommandAnnotation.alias()) {
-                        subCommands.put(alias.toLowerCase(), subCommandData);
-                    }
-                }
+                    arguments,
+                    typedBinding ? null : InvokerFactory.create(method, commandInstance), // 直接呼び出し処理を事前生成
+                    commandName,
+                    binder
+                ));
             }
         }
-        
-        // 自動ヘルプサブコマンドを追加
-        addAutoHelpSubCommand(subCommands, commandInstance, commandAnnotation);
-        
-        // コマンドデータの作成
-        CommandData commandData = new CommandData(
-            commandName,
-            commandAnnotation.permission(),
-            Arrays.asList(commandAnnotation.alias()),
-            commandAnnotation.timeout(),
-            commandAnnotation.description(),
-            commandAnnotation.usage(),
-            commandInstance,
-            subCommands
-        );
-          // コマンドの登録
-        commands.put(commandName, commandData);
-        
-        // Bukkitに動的にコマンドを登録
-        registerCommandToBukkit(commandData);
-        
-        // エイリアスの登録
-        for (String alias : commandAnnotation.alias()) {
-            aliases.put(alias.toLowerCase(), commandName);
-        }
-        TempceLib.getInstance().getLogger().info("コマンド '" + commandName + "' を登録しました (サブコマンド: " + subCommands.size() + "個)");
+        return subCommands;
     }
     
     /**
      * 自動ヘルプサブコマンドを追加する
      * @param subCommands サブコマンドマップ
-     * @param commandInstance コマンドインスタンス
      * @param commandAnnotation コマンドアノテーション
+     * @param commandName 親コマンド名
      */
-    private void addAutoHelpSubCommand(Map<String, SubCommandData> subCommands, Object commandInstance, Command commandAnnotation) {
+    private void addAutoHelpSubCommand(Map<String, SubCommandData> subCommands, Command commandAnnotation, String commandName) {
         // 既に"help"サブコマンドが存在する場合はスキップ
         boolean helpExists = subCommands.keySet().stream()
             .anyMatch(key -> key.equals("help") || key.startsWith("help."));
@@ -202,6 +376,7 @@ public class CommandManager {
         try {
             // 自動ヘルプメソッドを作成
             Method helpMethod = createHelpMethod(commandAnnotation, subCommands);
+            AutoHelpExecutor helpExecutor = new AutoHelpExecutor(commandAnnotation, subCommands, permissionCache);
             
             SubCommandData helpSubCommand = new SubCommandData(
                 "help", // パス
@@ -209,11 +384,13 @@ public class CommandManager {
                 Arrays.asList(), // エイリアスなし
                 0, // タイムアウトなし
                 "このコマンドのヘルプを表示",
-                "help [subcommand]",
+                "help [page|subcommand]",
                 false, // プレイヤー限定なし
                 helpMethod,
-                new AutoHelpExecutor(commandAnnotation, subCommands),
-                new ArrayList<>() // 引数なし
+                helpExecutor,
+                new ArrayList<>(), // 引数なし
+                helpExecutor::executeHelp,
+                commandName
             );
             
             // フルパスで登録
@@ -248,10 +425,7 @@ public class CommandManager {
             constructor.setAccessible(true);
             PluginCommand pluginCommand = constructor.newInstance(commandData.getName(), TempceLib.getInstance());
             
-            // エグゼキューターとタブコンプリーターを設定
-            TempceCommandExecutor executor = new TempceCommandExecutor(this);
-            TempceTabCompleter completer = new TempceTabCompleter(this);
-            
+            // 共有のエグゼキューターとタブコンプリーターを設定
             pluginCommand.setExecutor(executor);
             pluginCommand.setTabCompleter(completer);
             
@@ -271,6 +445,16 @@ public class CommandManager {
             // CommandMapに登録
             commandMap.register(TempceLib.getInstance().getDescription().getName(), pluginCommand);
             
+            // 他のプラグインと競合せずに登録できたラベルを記録（非同期のコマンドツリー送信から参照するため）
+            List<String> labels = new ArrayList<>();
+            labels.add(commandData.getName());
+            labels.addAll(commandData.getAliases());
+            for (String label : labels) {
+                if (commandMap.getCommand(label) == pluginCommand) {
+                    ownedLabels.add(label.toLowerCase());
+                }
+            }
+            
         } catch (Exception e) {
             TempceLib.getInstance().getLogger().severe("コマンド '" + commandData.getName() + 
                 "' のBukkit登録に失敗しました: " + e.getMessage());
@@ -305,48 +489,219 @@ public class CommandManager {
      */
     public List<String> getTabCompletions(CommandSender sender, String commandName, String[] args) {
         List<String> completions = new ArrayList<>();
-        
+        collectTabCompletions(commandName, args, permission -> permissionCache.hasPermission(sender, permission),
+            argument -> ArgumentTabCompleter.getCompletions(argument, args[args.length - 1], sender), completions);
+        return completions;
+    }
+    
+    /**
+     * メインスレッド外でタブ補完の候補を取得する
+     * 権限はキャッシュ済みの判定結果のみを参照し、引数はインデックスなどスレッドセーフなデータで補完できる
+     * タイプ（{@link ArgumentTabCompleter#isAsyncSafe}）のみを補完します
+     * それ以外（未判定の権限・ワールド名・カスタムの補完プロバイダーなど）が必要な場合はnullを返すため、
+     * 呼び出し元は同期の補完にフォールバックしてください
+     * @param sender コマンド送信者
+     * @param commandName 実行されたコマンド名
+     * @param args 引数
+     * @return 補完候補のリスト（非同期で補完できない場合はnull）
+     */
+    public List<String> getAsyncTabCompletions(CommandSender sender, String commandName, String[] args) {
+        boolean[] unsupported = new boolean[1];
+        List<String> completions = new ArrayList<>();
+        collectTabCompletions(commandName, args, permission -> {
+            Boolean cached = permissionCache.peek(sender, permission);
+            if (cached == null) {
+                unsupported[0] = true;
+                return false;
+            }
+            return cached;
+        }, argument -> {
+            if (!ArgumentTabCompleter.isAsyncSafe(argument)) {
+                unsupported[0] = true;
+                return Collections.emptyList();
+            }
+            return ArgumentTabCompleter.getCompletions(argument, args[args.length - 1], sender);
+        }, completions);
+        return unsupported[0] ? null : completions;
+    }
+    
+    /**
+     * タブ補完の候補を収集する
+     * @param permitted 権限の判定
+     * @param argumentCompleter 引数の補完処理
+     */
+    private void collectTabCompletions(String commandName, String[] args, Predicate<String> permitted,
+                                       Function<ArgumentData, List<String>> argumentCompleter, List<String> completions) {
         // 実行されたコマンドを取得
         CommandData commandData = getCommand(commandName);
         if (commandData == null) {
-            return completions;
+            return;
         }
         
         // コマンドの権限チェック
-        if (!commandData.getPermission().isEmpty() && !sender.hasPermission(commandData.getPermission())) {
-            return completions;
-        }        if (args.length == 1) {
+        if (!permitted.test(commandData.getPermission())) {
+            return;
+        }
+        
+        if (args.length == 1) {
             // サブコマンド名の補完（第1レベル）
-            String input = args[0].toLowerCase();
-            Set<String> addedCompletions = new HashSet<>();
-            
-            for (SubCommandData subCommandData : commandData.getSubCommands().values()) {
-                if (subCommandData.getPermission().isEmpty() || sender.hasPermission(subCommandData.getPermission())) {
-                    // 第1レベルの名前を取得
-                    String firstLevel = subCommandData.getFirstLevelName();
-                    if (firstLevel.startsWith(input) && !addedCompletions.contains(firstLevel)) {
-                        completions.add(firstLevel);
-                        addedCompletions.add(firstLevel);
-                    }
-                    // エイリアスも追加
-                    for (String alias : subCommandData.getAliases()) {
-                        if (alias.startsWith(input) && !addedCompletions.contains(alias)) {
-                            completions.add(alias);
-                            addedCompletions.add(alias);
-                        }
-                    }
-                }
-            }
-        } else if (args.length >= 2) {
-            // 多階層サブコマンドの補完
-            handleMultiLevelTabCompletion(sender, commandData, args, completions);
-            
-            // 引数補完もチェック
-            handleArgumentTabCompletion(sender, commandData, args, completions);
+            // インデックスの範囲はソート済みのため、そのまま返す
+            addIndexedCompletions(permitted, commandData.getSubCommandIndex(), args[0].toLowerCase(), true, completions);
+            return;
         }
         
-        Collections.sort(completions);
-        return completions;
+        if (args.length == 2 && args[0].equalsIgnoreCase("help")) {
+            // helpコマンドの補完 - 利用可能なサブコマンドのパスを提案
+            addIndexedCompletions(permitted, commandData.getSubCommandIndex(), args[1].toLowerCase(), false, completions);
+            completions.remove("help");
+            return;
+        }
+        
+        // 多階層サブコマンドと引数の補完（トライ木を1回だけ辿る）
+        handleTreeTabCompletion(permitted, argumentCompleter, commandData, args, completions);
+    }
+    
+    /**
+     * 前方一致インデックスから権限のあるサブコマンド名を補完候補に追加する
+     * 同じキーは隣接しているため、直前に追加したキーと比較するだけで重複を除けます
+     * @param permitted 権限の判定
+     * @param index 第1レベルのサブコマンド名とエイリアスのインデックス
+     * @param input 入力中の文字列（小文字）
+     * @param includeAliases エイリアスも候補に含めるかどうか
+     * @param completions 補完候補の追加先
+     */
+    private void addIndexedCompletions(Predicate<String> permitted, SortedPrefixIndex<SubCommandData> index, String input,
+                                       boolean includeAliases, List<String> completions) {
+        int from = index.fromIndex(input);
+        int to = index.toIndex(input, from);
+        String lastAdded = null;
+        
+        for (int i = from; i < to; i++) {
+            String key = index.getKey(i);
+            if (key.equals(lastAdded)) {
+                continue;
+            }
+            SubCommandData subCommandData = index.getValue(i);
+            if (!includeAliases && !key.equals(subCommandData.getFirstLevelName())) {
+                continue;
+            }
+            if (permitted.test(subCommandData.getPermission())) {
+                completions.add(key);
+                lastAdded = key;
+            }
+        }
+    }
+    
+    /**
+     * コマンドで使用される権限ノードを権限キャッシュに登録する
+     */
+    private void registerPermissionNodes(CommandData commandData) {
+        if (!commandData.getPermission().isEmpty()) {
+            permissionCache.registerNode(commandData.getPermission());
+        }
+        for (SubCommandData subCommandData : commandData.getSubCommands().values()) {
+            if (!subCommandData.getPermission().isEmpty()) {
+                permissionCache.registerNode(subCommandData.getPermission());
+            }
+        }
+    }
+    
+    /**
+     * 権限キャッシュを取得する
+     * @return 権限キャッシュ
+     */
+    public PermissionCache getPermissionCache() {
+        return permissionCache;
+    }
+    
+    /**
+     * オンラインプレイヤー名のインデックスを取得する
+     * @return オンラインプレイヤー名のインデックス
+     */
+    public PlayerNameIndex getPlayerNameIndex() {
+        return playerNameIndex;
+    }
+    
+    /**
+     * 参加したことのあるプレイヤー名のインデックスを取得する
+     * @return プレイヤー名のインデックス（オフラインプレイヤーを含む）
+     */
+    public OfflinePlayerIndex getOfflinePlayerIndex() {
+        return offlinePlayerIndex;
+    }
+    
+    /**
+     * 補完候補プロバイダーの登録を取得する
+     * @return 補完候補プロバイダーの登録
+     */
+    public SuggestionProviderRegistry getSuggestionProviders() {
+        return suggestionProviders;
+    }
+    
+    /**
+     * 補完セッションキャッシュを取得する
+     * @return 補完セッションキャッシュ（ヒット・ミスの回数を含む）
+     */
+    public CompletionSessionCache getCompletionSessions() {
+        return completionSessions;
+    }
+    
+    /**
+     * ラベルがCommandMap上でTempceLibのコマンドとして登録されているか
+     * 登録時にメインスレッドで記録した結果を参照するため、非同期スレッドからも呼び出せます
+     * @param label コマンドラベル
+     * @return TempceLibのコマンドの場合はtrue
+     */
+    public boolean isOwnedLabel(String label) {
+        return ownedLabels.contains(label.toLowerCase());
+    }
+    
+    /**
+     * クライアント向けのコマンドツリーを取得する
+     * @return 登録済みコマンドのコマンドツリー
+     */
+    public Collection<CommandTreeNode> getCommandTrees() {
+        return Collections.unmodifiableCollection(commandTrees.values());
+    }
+    
+    /**
+     * コマンドツリーの送信が有効か
+     * @return 有効な場合はtrue
+     */
+    public boolean isCommandTreeExport() {
+        return commandTreeExport;
+    }
+    
+    /**
+     * 非同期タブ補完が有効か
+     * @return 有効な場合はtrue（非対応のサーバーでは同期的に補完）
+     */
+    public boolean isAsyncTabCompletion() {
+        return asyncTabCompletion;
+    }
+    
+    /**
+     * クールダウンマネージャーを取得する
+     * @return クールダウンマネージャー
+     */
+    public CooldownManager getCooldownManager() {
+        return executor.getCooldownManager();
+    }
+    
+    /**
+     * コマンドIDの採番を取得する
+     * @return コマンドIDの採番
+     */
+    public CommandIdRegistry getCommandIds() {
+        return executor.getCommandIds();
+    }
+    
+    /**
+     * コマンドの実行統計を取得する
+     * @return 実行統計
+     */
+    public CommandMetrics getMetrics() {
+        return executor.getMetrics();
     }
     
     /**
@@ -368,118 +723,70 @@ public class CommandManager {
     }
     
     /**
-     * 多階層サブコマンドのタブ補完を処理する
+     * 多階層サブコマンドと引数のタブ補完を処理する
+     * 入力済みのレベルをトライ木で辿り、到達したノードの子ノード名（名前順）と、
+     * 辿った経路で最も深いサブコマンドの引数の補完候補を追加します
      */
-    private void handleMultiLevelTabCompletion(CommandSender sender, CommandData commandData, String[] args, List<String> completions) {
-        if (args.length == 2 && args[0].equalsIgnoreCase("help")) {
-            // helpコマンドの補完 - 利用可能なサブコマンドのパスを提案
-            String input = args[1].toLowerCase();
-            Set<String> addedCompletions = new HashSet<>();
-            
-            for (SubCommandData subCommandData : commandData.getSubCommands().values()) {
-                if (!subCommandData.getFirstLevelName().equals("help") && 
-                    (subCommandData.getPermission().isEmpty() || sender.hasPermission(subCommandData.getPermission()))) {
-                    
-                    String firstLevel = subCommandData.getFirstLevelName();
-                    if (firstLevel.startsWith(input) && !addedCompletions.contains(firstLevel)) {
-                        completions.add(firstLevel);
-                        addedCompletions.add(firstLevel);
-                    }
-                }
+    private void handleTreeTabCompletion(Predicate<String> permitted, Function<ArgumentData, List<String>> argumentCompleter,
+                                         CommandData commandData, String[] args, List<String> completions) {
+        String currentInput = args[args.length - 1];
+        CommandNode node = commandData.getCommandTree();
+        CommandNode deepestMatch = null;
+        
+        // 入力中の最後のレベルを除いて辿る
+        int depth = 0;
+        while (depth < args.length - 1) {
+            CommandNode child = node.getChild(args[depth]);
+            if (child == null) {
+                break;
+            }
+            node = child;
+            depth++;
+            if (node.isExecutable()) {
+                deepestMatch = node;
             }
-            return;
         }
         
-        // 現在の引数パスを構築して次のレベルを探す
-        String input = args[args.length - 1].toLowerCase();
-        Set<String> addedCompletions = new HashSet<>();
-        
-        // 現在のパスレベルの次のレベルを探す
-        for (SubCommandData subCommandData : commandData.getSubCommands().values()) {
-            if (subCommandData.getPermission().isEmpty() || sender.hasPermission(subCommandData.getPermission())) {
-                String[] pathLevels = subCommandData.getPathLevels();
-                
-                // 現在のパスレベルと一致し、次のレベルが存在するかチェック
-                if (pathLevels.length > args.length - 1) {
-                    boolean pathMatches = true;
-                    for (int i = 0; i < args.length - 1; i++) {
-                        if (!pathLevels[i].equalsIgnoreCase(args[i])) {
-                            pathMatches = false;
-                            break;
-                        }
-                    }
-                    
-                    if (pathMatches) {
-                        String nextLevel = pathLevels[args.length - 1];
-                        if (nextLevel.toLowerCase().startsWith(input) && !addedCompletions.contains(nextLevel)) {
-                            completions.add(nextLevel);
-                            addedCompletions.add(nextLevel);
-                        }
-                    }
+        if (depth == args.length - 1) {
+            // 次のレベルのサブコマンド名（配下に権限のあるサブコマンドがあるもののみ）
+            for (CommandNode child : node.getChildrenWithPrefix(currentInput.toLowerCase())) {
+                if (isVisible(permitted, child)) {
+                    completions.add(child.getName());
                 }
             }
+            
+            // 入力中のレベルがサブコマンド名と完全に一致する場合は、引数ではなくサブコマンドとして扱う
+            CommandNode exact = node.getChild(currentInput);
+            if (exact != null && exact.isExecutable()) {
+                return;
+            }
         }
-    }
-    
-    /**
-     * 引数のタブ補完を処理する
-     */
-    private void handleArgumentTabCompletion(CommandSender sender, CommandData commandData, String[] args, List<String> completions) {
-        // 現在の引数パスからサブコマンドを特定
-        SubCommandData targetSubCommand = findMatchingSubCommand(commandData, args);
         
-        if (targetSubCommand == null || !targetSubCommand.hasArguments()) {
+        if (deepestMatch == null) {
             return;
         }
-        
-        // 権限チェック
-        if (!targetSubCommand.getPermission().isEmpty() && !sender.hasPermission(targetSubCommand.getPermission())) {
+        SubCommandData targetSubCommand = deepestMatch.getSubCommand();
+        if (!targetSubCommand.hasArguments() || !permitted.test(targetSubCommand.getPermission())) {
             return;
         }
         
-        // サブコマンドパスの長さを計算
-        int subCommandLength = targetSubCommand.getPathLevels().length;
-        
-        // 引数のインデックスを計算
-        int argumentIndex = args.length - subCommandLength - 1;
-        
+        // 引数のインデックスを計算（候補の順序は引数タイプごとの補完処理が決める）
+        int argumentIndex = args.length - deepestMatch.getDepth() - 1;
         if (argumentIndex >= 0 && argumentIndex < targetSubCommand.getArguments().size()) {
             ArgumentData argument = targetSubCommand.getArguments().get(argumentIndex);
-            String currentInput = args[args.length - 1];
-            
-            // 引数タイプに応じた補完候補を取得
-            List<String> argumentCompletions = ArgumentTabCompleter.getCompletions(argument, currentInput, sender);
-            completions.addAll(argumentCompletions);
+            completions.addAll(argumentCompleter.apply(argument));
         }
     }
     
     /**
-     * 引数配列からマッチするサブコマンドを見つける
+     * ノードの配下に送信者が権限を持つサブコマンドがあるか
      */
-    private SubCommandData findMatchingSubCommand(CommandData commandData, String[] args) {
-        // 最も長いマッチするパスを探す
-        SubCommandData bestMatch = null;
-        int longestMatch = 0;
-        
-        for (SubCommandData subCommandData : commandData.getSubCommands().values()) {
-            String[] pathLevels = subCommandData.getPathLevels();
-            
-            if (pathLevels.length <= args.length) {
-                boolean matches = true;
-                for (int i = 0; i < pathLevels.length; i++) {
-                    if (!pathLevels[i].equalsIgnoreCase(args[i])) {
-                        matches = false;
-                        break;
-                    }
-                }
-                
-                if (matches && pathLevels.length > longestMatch) {
-                    bestMatch = subCommandData;
-                    longestMatch = pathLevels.length;
-                }
+    private boolean isVisible(Predicate<String> permitted, CommandNode node) {
+        for (String permission : node.getSubtreePermissions()) {
+            if (permitted.test(permission)) {
+                return true;
             }
         }
-        
-        return bestMatch;
+        return false;
     }
 }
@@ -0,0 +1,158 @@
+package com.Tempce.tempceLib.command.permission;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * プレイヤーごとの権限判定結果をキャッシュするクラス
+ * 登録済みコマンドで使用される権限ノードに登録時に番号を割り当て、
+ * プレイヤーごとのスナップショットに判定結果を記録します（初回判定時のみ権限プラグインに問い合わせ）
+ *
+ * タブ補完・ヘルプ表示など表示用途の判定に使用します。コマンド実行時の権限チェックには使用しません
+ * スナップショットはログアウト・ワールド移動時、または {@link #invalidate(UUID)} の呼び出しで破棄されます
+ */
+public class PermissionCache implements Listener {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte GRANTED = 1;
+    private static final byte DENIED = 2;
+
+    private final ConcurrentHashMap<String, Integer> nodeIds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicInteger nextNodeId = new AtomicInteger();
+
+    /**
+     * 権限ノードを登録し、番号を取得する（登録済みの場合は既存の番号を返す）
+     * @param permission 権限ノード
+     * @return 権限ノードの番号
+     */
+    public int registerNode(String permission) {
+        return nodeIds.computeIfAbsent(permission, key -> nextNodeId.getAndIncrement());
+    }
+
+    /**
+     * 登録されている権限ノードの数を取得
+     */
+    public int getNodeCount() {
+        return nodeIds.size();
+    }
+
+    /**
+     * 送信者が権限を持っているかを判定する
+     * プレイヤー以外（コンソール等）はキャッシュせずに直接判定します
+     * @param sender コマンド送信者
+     * @param permission 権限ノード（空の場合は常にtrue）
+     * @return 権限を持っている場合はtrue
+     */
+    public boolean hasPermission(CommandSender sender, String permission) {
+        if (permission == null || permission.isEmpty()) {
+            return true;
+        }
+        if (!(sender instanceof Player)) {
+            return sender.hasPermission(permission);
+        }
+
+        int nodeId = registerNode(permission);
+        Snapshot snapshot = snapshots.computeIfAbsent(((Player) sender).getUniqueId(), uuid -> new Snapshot());
+        byte state = snapshot.get(nodeId);
+        if (state == UNKNOWN) {
+            // 同時に判定された場合も結果は同じになるため、上書きしても問題ない
+            state = sender.hasPermission(permission) ? GRANTED : DENIED;
+            snapshot.set(nodeId, state);
+        }
+        return state == GRANTED;
+    }
+
+    /**
+     * キャッシュ済みの判定結果を取得する（権限を問い合わせない）
+     * メインスレッド外から判定する場合に使用します
+     * @param sender コマンド送信者
+     * @param permission 権限ノード（空の場合は常にtrue）
+     * @return 判定結果（プレイヤー以外、または未判定の場合はnull）
+     */
+    public Boolean peek(CommandSender sender, String permission) {
+        if (permission == null || permission.isEmpty()) {
+            return Boolean.TRUE;
+        }
+        if (!(sender instanceof Player)) {
+            return null;
+        }
+        Snapshot snapshot = snapshots.get(((Player) sender).getUniqueId());
+        if (snapshot == null) {
+            return null;
+        }
+        byte state = snapshot.get(registerNode(permission));
+        return state == UNKNOWN ? null : state == GRANTED;
+    }
+    
+    /**
+     * プレイヤーのスナップショットを破棄する
+     * 権限を変更した後に呼び出してください
+     * @param playerId プレイヤーのUUID
+     */
+    public void invalidate(UUID playerId) {
+        snapshots.remove(playerId);
+    }
+
+    /**
+     * すべてのスナップショットを破棄する
+     */
+    public void invalidateAll() {
+        snapshots.clear();
+    }
+
+    /**
+     * スナップショットを保持しているプレイヤー数を取得
+     */
+    public int getCachedPlayerCount() {
+        return snapshots.size();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        // ワールドごとに権限を設定する権限プラグインに対応するため破棄する
+        invalidate(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * プレイヤー1人分の判定結果（権限ノードの番号で引く）
+     */
+    private static final class Snapshot {
+        private volatile byte[] states = new byte[16];
+
+        byte get(int nodeId) {
+            byte[] current = states;
+            return nodeId < current.length ? current[nodeId] : UNKNOWN;
+        }
+
+        void set(int nodeId, byte state) {
+            byte[] current = states;
+            if (nodeId >= current.length) {
+                synchronized (this) {
+                    current = states;
+                    if (nodeId >= current.length) {
+                        current = Arrays.copyOf(current, Math.max(current.length * 2, nodeId + 1));
+                        states = current;
+                    }
+                }
+            }
+            // 拡張と同時に書き込まれた結果が失われても、次回の判定で再計算されるだけ
+            current[nodeId] = state;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.Tempce.tempceLib.command.registry;
+
+import com.Tempce.tempceLib.command.data.SubCommandData;
+
+import java.util.List;
+
+/**
+ * アノテーションプロセッサ（tempcelib-processor）がコンパイル時に生成するコマンドレジストリ
+ * 生成クラスはコマンドクラスと同じパッケージに「コマンドクラス名 + {@link #SUFFIX}」の名前で出力されます
+ * 存在する場合はリフレクションによるアノテーション走査の代わりに使用されます
+ */
+public interface GeneratedCommandRegistry {
+    
+    /**
+     * 生成クラス名の接尾辞
+     */
+    String SUFFIX = "_CommandRegistry";
+    
+    /**
+     * 生成元のコマンドクラスを取得
+     * @return コマンドクラス
+     */
+    Class<?> getCommandClass();
+    
+    /**
+     * サブコマンドデータを生成する
+     * 各サブコマンドにはハンドラーを直接呼び出す処理が設定されます
+     * @param commandName 親コマンド名
+     * @param instance コマンドインスタンス
+     * @return サブコマンドデータのリスト（自動ヘルプは含まない）
+     */
+    List<SubCommandData> createSubCommands(String commandName, Object instance);
+}
@@ -0,0 +1,104 @@
+package com.Tempce.tempceLib.command.suggestion;
+
+import org.bukkit.event.Event;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 補完候補のキャッシュ方針
+ * キャッシュはプロバイダー・コンテキスト（全体または送信者ごと）・入力中の文字列の組で保持されます
+ *
+ * <pre>
+ * CachePolicy.forever()                                  // 再読み込みまで保持（静的な候補）
+ * CachePolicy.ttl(30, TimeUnit.SECONDS)                  // 一定時間保持
+ * CachePolicy.forever().invalidateOn(WarpCreateEvent.class) // イベント発生時に破棄
+ * CachePolicy.ttl(10, TimeUnit.SECONDS).perSender()      // 送信者ごとに保持
+ * </pre>
+ */
+public final class CachePolicy {
+
+    private static final CachePolicy NONE = new CachePolicy(false, 0, false, Collections.emptyList());
+
+    private final boolean cacheable;
+    private final long ttlMillis;
+    private final boolean perSender;
+    private final List<Class<? extends Event>> invalidationEvents;
+
+    private CachePolicy(boolean cacheable, long ttlMillis, boolean perSender,
+                        List<Class<? extends Event>> invalidationEvents) {
+        this.cacheable = cacheable;
+        this.ttlMillis = ttlMillis;
+        this.perSender = perSender;
+        this.invalidationEvents = invalidationEvents;
+    }
+
+    /**
+     * キャッシュしない
+     */
+    public static CachePolicy none() {
+        return NONE;
+    }
+
+    /**
+     * 破棄されるまで保持する（静的な候補向け）
+     */
+    public static CachePolicy forever() {
+        return new CachePolicy(true, Long.MAX_VALUE, false, Collections.emptyList());
+    }
+
+    /**
+     * 一定時間保持する
+     * @param duration 保持する時間
+     * @param unit 時間の単位
+     */
+    public static CachePolicy ttl(long duration, TimeUnit unit) {
+        return new CachePolicy(true, unit.toMillis(duration), false, Collections.emptyList());
+    }
+
+    /**
+     * 送信者ごとにキャッシュする方針を返す（送信者によって候補が変わる場合に使用）
+     */
+    public CachePolicy perSender() {
+        return new CachePolicy(cacheable, ttlMillis, true, invalidationEvents);
+    }
+
+    /**
+     * 指定したイベントの発生時にキャッシュを破棄する方針を返す
+     * @param events 破棄のきっかけとなるイベント
+     */
+    @SafeVarargs
+    public final CachePolicy invalidateOn(Class<? extends Event>... events) {
+        return new CachePolicy(cacheable, ttlMillis, perSender, Collections.unmodifiableList(Arrays.asList(events)));
+    }
+
+    /**
+     * キャッシュするかどうか
+     */
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    /**
+     * 保持する時間（ミリ秒、無期限の場合は {@link Long#MAX_VALUE}）
+     */
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    /**
+     * 送信者ごとにキャッシュするかどうか
+     */
+    public boolean isPerSender() {
+        return perSender;
+    }
+
+    /**
+     * キャッシュを破棄するイベント
+     */
+    public List<Class<? extends Event>> getInvalidationEvents() {
+        return invalidationEvents;
+    }
+}
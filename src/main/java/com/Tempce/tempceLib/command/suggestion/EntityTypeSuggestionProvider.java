@@ -0,0 +1,67 @@
+package com.Tempce.tempceLib.command.suggestion;
+
+import com.Tempce.tempceLib.command.data.SortedPrefixIndex;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.EntityType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * エンティティタイプの補完候補（ENTITY_ID引数の組み込みプロバイダー）
+ * 起動時に構築した前方一致インデックスから取得するため、キャッシュは使用しません
+ */
+public class EntityTypeSuggestionProvider implements SuggestionProvider {
+
+    /**
+     * 登録名
+     */
+    public static final String NAME = "entity_type";
+
+    private final SortedPrefixIndex<EntityType> index;
+
+    public EntityTypeSuggestionProvider() {
+        SortedPrefixIndex.Builder<EntityType> builder = SortedPrefixIndex.builder();
+        for (EntityType type : EntityType.values()) {
+            String id = idOf(type);
+            if (id != null) {
+                builder.add(id, type);
+            }
+        }
+        this.index = builder.build();
+    }
+
+    /**
+     * 実行時の変換（{@code Registry.ENTITY_TYPE} のキー検索）で解決できるID
+     * minecraft 名前空間はキーのみ、それ以外は名前空間付きで返します
+     * @return ID（UNKNOWN などキーを持たない場合はnull）
+     */
+    private static String idOf(EntityType type) {
+        if (type == EntityType.UNKNOWN) {
+            return null;
+        }
+        NamespacedKey key;
+        try {
+            key = type.getKey();
+        } catch (IllegalArgumentException e) {
+            return null; // キーを持たないタイプ
+        }
+        if (key == null) {
+            return null;
+        }
+        return NamespacedKey.MINECRAFT.equals(key.getNamespace()) ? key.getKey() : key.toString();
+    }
+
+    @Override
+    public List<String> suggest(SuggestionContext context) {
+        String prefix = context.getInput().toLowerCase();
+        int from = index.fromIndex(prefix);
+        int to = index.toIndex(prefix, from);
+
+        List<String> suggestions = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            suggestions.add(index.getKey(i));
+        }
+        return suggestions;
+    }
+}
@@ -0,0 +1,114 @@
+package com.Tempce.tempceLib.command.suggestion;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 補完候補の上限付きキャッシュ（LRU）
+ * プロバイダー名・コンテキスト・入力中の文字列の組をキーとして保持し、上限を超えると最も古く参照されたものから削除します
+ */
+public class SuggestionCache {
+
+    private final int maxEntries;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    /**
+     * @param maxEntries 保持するエントリ数の上限
+     */
+    public SuggestionCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > SuggestionCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * キャッシュされた補完候補を取得する
+     * @return 補完候補（キャッシュがないか期限切れの場合はnull）
+     */
+    public synchronized List<String> get(String provider, String context, String prefix) {
+        Key key = new Key(provider, context, prefix);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAt) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.suggestions;
+    }
+
+    /**
+     * 補完候補をキャッシュする
+     * @param ttlMillis 保持する時間（ミリ秒）
+     */
+    public synchronized void put(String provider, String context, String prefix, List<String> suggestions, long ttlMillis) {
+        long now = System.currentTimeMillis();
+        long expiresAt = ttlMillis >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + ttlMillis;
+        entries.put(new Key(provider, context, prefix), new Entry(List.copyOf(suggestions), expiresAt));
+    }
+
+    /**
+     * プロバイダーのキャッシュをすべて破棄する
+     */
+    public synchronized void invalidate(String provider) {
+        entries.keySet().removeIf(key -> key.provider.equals(provider));
+    }
+
+    /**
+     * すべてのキャッシュを破棄する
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * キャッシュされているエントリ数を取得
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Key {
+        private final String provider;
+        private final String context;
+        private final String prefix;
+        private final int hash;
+
+        private Key(String provider, String context, String prefix) {
+            this.provider = provider;
+            this.context = context;
+            this.prefix = prefix;
+            this.hash = Objects.hash(provider, context, prefix);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return provider.equals(other.provider) && context.equals(other.context) && prefix.equals(other.prefix);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        private final List<String> suggestions;
+        private final long expiresAt;
+
+        private Entry(List<String> suggestions, long expiresAt) {
+            this.suggestions = suggestions;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
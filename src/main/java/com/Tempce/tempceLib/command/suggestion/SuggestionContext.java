@@ -0,0 +1,41 @@
+package com.Tempce.tempceLib.command.suggestion;
+
+import com.Tempce.tempceLib.command.data.ArgumentData;
+import org.bukkit.command.CommandSender;
+
+/**
+ * 補完候補の取得時に渡されるコンテキスト
+ */
+public final class SuggestionContext {
+
+    private final CommandSender sender;
+    private final ArgumentData argument;
+    private final String input;
+
+    public SuggestionContext(CommandSender sender, ArgumentData argument, String input) {
+        this.sender = sender;
+        this.argument = argument;
+        this.input = input;
+    }
+
+    /**
+     * コマンド送信者を取得
+     */
+    public CommandSender getSender() {
+        return sender;
+    }
+
+    /**
+     * 補完対象の引数定義を取得
+     */
+    public ArgumentData getArgument() {
+        return argument;
+    }
+
+    /**
+     * 入力中の文字列を取得
+     */
+    public String getInput() {
+        return input;
+    }
+}
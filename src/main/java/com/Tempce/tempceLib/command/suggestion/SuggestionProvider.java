@@ -0,0 +1,29 @@
+package com.Tempce.tempceLib.command.suggestion;
+
+import java.util.List;
+
+/**
+ * 引数の補完候補を提供するインターフェース
+ * {@link com.Tempce.tempceLib.api.CommandAPI#registerSuggestionProvider(String, SuggestionProvider)} で名前を付けて登録し、
+ * {@code @CommandArguments.Argument(provider = "名前")} で引数から参照します
+ *
+ * Paperサーバーではタブ補完が非同期スレッドで行われるため、スレッドセーフに実装してください
+ */
+@FunctionalInterface
+public interface SuggestionProvider {
+
+    /**
+     * 補完候補を取得する
+     * @param context 補完のコンテキスト（送信者・引数定義・入力中の文字列）
+     * @return 補完候補（入力中の文字列での絞り込みはプロバイダー側で行う）
+     */
+    List<String> suggest(SuggestionContext context);
+
+    /**
+     * 補完候補のキャッシュ方針を取得する
+     * @return キャッシュ方針（デフォルトはキャッシュしない）
+     */
+    default CachePolicy getCachePolicy() {
+        return CachePolicy.none();
+    }
+}
@@ -0,0 +1,160 @@
+package com.Tempce.tempceLib.command.suggestion;
+
+import com.Tempce.tempceLib.TempceLib;
+import com.Tempce.tempceLib.command.data.ArgumentData;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * 補完候補プロバイダーの登録と、キャッシュ方針に従った候補の取得を管理するクラス
+ */
+public class SuggestionProviderRegistry {
+
+    private static final int MAX_CACHE_ENTRIES = 1024;
+
+    private final Map<String, Registration> providers = new ConcurrentHashMap<>();
+    private final SuggestionCache cache = new SuggestionCache(MAX_CACHE_ENTRIES);
+
+    public SuggestionProviderRegistry() {
+        registerBuiltIns();
+    }
+
+    /**
+     * 組み込みプロバイダーを登録する
+     */
+    private void registerBuiltIns() {
+        providers.putIfAbsent(EntityTypeSuggestionProvider.NAME,
+            new Registration(EntityTypeSuggestionProvider.NAME, new EntityTypeSuggestionProvider()));
+    }
+
+    /**
+     * プロバイダーを登録する（同名のプロバイダーは置き換える）
+     * キャッシュ方針に破棄イベントが指定されている場合は、イベントリスナーも登録します
+     * @param name 登録名（大文字・小文字を区別しない）
+     * @param provider プロバイダー
+     */
+    public void register(String name, SuggestionProvider provider) {
+        String key = name.toLowerCase();
+        Registration registration = new Registration(key, provider);
+        unregister(key);
+        providers.put(key, registration);
+
+        for (Class<? extends Event> eventClass : provider.getCachePolicy().getInvalidationEvents()) {
+            Bukkit.getPluginManager().registerEvent(eventClass, registration, EventPriority.MONITOR,
+                (listener, event) -> {
+                    if (eventClass.isInstance(event)) {
+                        cache.invalidate(key);
+                    }
+                }, TempceLib.getInstance());
+        }
+    }
+
+    /**
+     * プロバイダーの登録を解除する
+     * 組み込みプロバイダーの名前の場合は、組み込みのプロバイダーに戻します
+     * @param name 登録名
+     */
+    public void unregister(String name) {
+        String key = name.toLowerCase();
+        Registration removed = providers.remove(key);
+        if (removed != null) {
+            HandlerList.unregisterAll(removed);
+            cache.invalidate(key);
+        }
+        registerBuiltIns();
+    }
+
+    /**
+     * プロバイダーが登録されているか
+     */
+    public boolean isRegistered(String name) {
+        return providers.containsKey(name.toLowerCase());
+    }
+
+    /**
+     * プロバイダーのキャッシュを破棄する
+     * @param name 登録名
+     */
+    public void invalidate(String name) {
+        cache.invalidate(name.toLowerCase());
+    }
+
+    /**
+     * すべてのキャッシュを破棄する
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * プロバイダーから補完候補を取得する（キャッシュ方針に従ってキャッシュを使用）
+     * @param name 登録名
+     * @param sender コマンド送信者
+     * @param argument 引数定義
+     * @param input 入力中の文字列
+     * @return 補完候補（プロバイダーが登録されていない場合はnull）
+     */
+    public List<String> suggest(String name, CommandSender sender, ArgumentData argument, String input) {
+        Registration registration = providers.get(name.toLowerCase());
+        if (registration == null) {
+            return null;
+        }
+
+        CachePolicy policy = registration.provider.getCachePolicy();
+        if (!policy.isCacheable()) {
+            return query(registration, sender, argument, input);
+        }
+
+        String context = policy.isPerSender() ? contextOf(sender) : "";
+        String prefix = input.toLowerCase();
+        List<String> cached = cache.get(registration.name, context, prefix);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<String> suggestions = query(registration, sender, argument, input);
+        cache.put(registration.name, context, prefix, suggestions, policy.getTtlMillis());
+        return suggestions;
+    }
+
+    private List<String> query(Registration registration, CommandSender sender, ArgumentData argument, String input) {
+        try {
+            List<String> suggestions = registration.provider.suggest(new SuggestionContext(sender, argument, input));
+            return suggestions != null ? suggestions : List.of();
+        } catch (Exception e) {
+            TempceLib.getInstance().getLogger().log(Level.WARNING,
+                "補完候補プロバイダー '" + registration.name + "' でエラーが発生しました", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * 送信者ごとのキャッシュのコンテキストを取得する
+     */
+    private static String contextOf(CommandSender sender) {
+        return sender instanceof Entity ? ((Entity) sender).getUniqueId().toString() : sender.getName();
+    }
+
+    /**
+     * 登録情報（破棄イベントのリスナーを兼ねる）
+     */
+    private static final class Registration implements Listener {
+        private final String name;
+        private final SuggestionProvider provider;
+
+        private Registration(String name, SuggestionProvider provider) {
+            this.name = name;
+            this.provider = provider;
+        }
+    }
+}
@@ -15,6 +15,7 @@ public class GUIMenuData {
     private final Map<String, Object> properties;
     private final boolean allowPlayerInventoryClick;
     private final ItemStack fillItem;
+    private volatile GUIItemData[] slotIndex;
     
     /**
      * GUIメニューデータのコンストラクタ
@@ -69,6 +70,41 @@ public class GUIMenuData {
         return items;
     }
     
+    /**
+     * スロット番号からアイテムを引く配列を構築する
+     * GUIの登録時（開くたび）に呼び出され、以降のクリック処理はスロット番号で直接アイテムを取得します
+     * アイテムリストは呼び出し元と共有されているため、構築済みの場合も現在のリストから作り直します
+     */
+    public void compileSlotIndex() {
+        slotIndex = buildSlotIndex();
+    }
+    
+    /**
+     * 指定スロットのアイテムを取得
+     * 同じスロットに複数のアイテムがある場合は、リストで先に定義されたものを返します
+     * @param slot スロット番号
+     * @return アイテムデータ（存在しない場合はnull）
+     */
+    public GUIItemData getItemAt(int slot) {
+        GUIItemData[] index = slotIndex;
+        if (index == null) {
+            index = buildSlotIndex();
+            slotIndex = index;
+        }
+        return slot >= 0 && slot < index.length ? index[slot] : null;
+    }
+    
+    private GUIItemData[] buildSlotIndex() {
+        GUIItemData[] index = new GUIItemData[Math.max(size, 0)];
+        for (GUIItemData itemData : items) {
+            int slot = itemData.getSlot();
+            if (slot >= 0 && slot < index.length && index[slot] == null) {
+                index[slot] = itemData;
+            }
+        }
+        return index;
+    }
+    
     /**
      * 追加プロパティを取得
      * @return 追加プロパティ
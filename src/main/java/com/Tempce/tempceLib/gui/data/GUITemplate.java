@@ -0,0 +1,143 @@
+package com.Tempce.tempceLib.gui.data;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 静的なGUIメニューのテンプレート
+ * スロットごとのアイテム配列とクリック処理のテーブルを一度だけ構築しておき、
+ * GUIを開くたびに {@link Inventory#setContents(ItemStack[])} 1回でインベントリに反映します
+ * プレイヤーごとに変わるスロット（動的アイテム）は反映後に上書きされます
+ *
+ * 動的アイテムのうちアイテムスタックがnullのものは、テンプレートの同じスロットのアイテムに
+ * クリック時のアクションだけを割り当てます（確認ボタンなど、表示は共通で処理だけが異なる場合）
+ */
+public final class GUITemplate {
+    private final String title;
+    private final int size;
+    private final ItemStack[] contents;
+    private final GUIItemData[] slotItems;
+    private final GUIItemData[] permissionItems;
+    private final Map<String, Object> properties;
+    private final boolean allowPlayerInventoryClick;
+    private final ItemStack fillItem;
+
+    private GUITemplate(GUIMenuData menuData, ItemStack[] contents, GUIItemData[] slotItems,
+                        GUIItemData[] permissionItems) {
+        this.title = menuData.getTitle();
+        this.size = menuData.getSize();
+        this.contents = contents;
+        this.slotItems = slotItems;
+        this.permissionItems = permissionItems;
+        this.properties = menuData.getProperties();
+        this.allowPlayerInventoryClick = menuData.isAllowPlayerInventoryClick();
+        this.fillItem = menuData.getFillItem();
+    }
+
+    /**
+     * メニューデータからテンプレートを構築する
+     * 権限が必要なアイテムはテンプレートに含めず、GUIを開く際に権限のあるプレイヤーにのみ配置します
+     * @param menuData メニューデータ
+     * @return テンプレート
+     */
+    public static GUITemplate compile(GUIMenuData menuData) {
+        int size = menuData.getSize();
+        ItemStack[] contents = new ItemStack[size];
+        GUIItemData[] slotItems = new GUIItemData[size];
+        List<GUIItemData> permissionItems = new ArrayList<>();
+
+        if (menuData.getFillItem() != null) {
+            Arrays.fill(contents, menuData.getFillItem());
+        }
+
+        for (GUIItemData itemData : menuData.getItems()) {
+            int slot = itemData.getSlot();
+            if (slot < 0 || slot >= size) {
+                continue;
+            }
+            if (!itemData.getPermission().isEmpty()) {
+                permissionItems.add(itemData);
+                continue;
+            }
+            // 同じスロットに複数ある場合は先に定義されたものを優先（クリック処理と同じ）
+            if (slotItems[slot] == null) {
+                slotItems[slot] = itemData;
+                contents[slot] = itemData.getItemStack();
+            }
+        }
+
+        return new GUITemplate(menuData, contents, slotItems, permissionItems.toArray(new GUIItemData[0]));
+    }
+
+    /**
+     * テンプレートのタイトルを取得
+     * @return タイトル
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * メニューサイズを取得
+     * @return メニューサイズ
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * テンプレートをインベントリに反映し、クリック処理用のメニューデータを作成する
+     * @param inventory 反映先のインベントリ（テンプレートと同じサイズ）
+     * @param title メニュータイトル（インベントリ作成時のタイトル）
+     * @param dynamicItems プレイヤーごとのアイテム（テンプレートの同じスロットより優先）
+     * @param permissionCheck プレイヤーが権限を持っているかの判定
+     * @return メニューデータ
+     */
+    public GUIMenuData stamp(Inventory inventory, String title, List<GUIItemData> dynamicItems,
+                             Predicate<String> permissionCheck) {
+        inventory.setContents(contents);
+        GUIItemData[] bound = slotItems.clone();
+
+        for (GUIItemData itemData : permissionItems) {
+            if (bound[itemData.getSlot()] == null && permissionCheck.test(itemData.getPermission())) {
+                inventory.setItem(itemData.getSlot(), itemData.getItemStack());
+                bound[itemData.getSlot()] = itemData;
+            }
+        }
+
+        for (GUIItemData itemData : dynamicItems) {
+            int slot = itemData.getSlot();
+            if (slot < 0 || slot >= size) {
+                continue;
+            }
+            if (itemData.getItemStack() == null) {
+                // テンプレートのアイテムにアクションを割り当てる
+                GUIItemData base = bound[slot];
+                if (base != null) {
+                    bound[slot] = new GUIItemData(base.getItemStack(), slot, itemData.getClickAction(),
+                        base.getPermission(), itemData.isEnabled());
+                }
+                continue;
+            }
+            if (!itemData.getPermission().isEmpty() && !permissionCheck.test(itemData.getPermission())) {
+                continue;
+            }
+            inventory.setItem(slot, itemData.getItemStack());
+            bound[slot] = itemData;
+        }
+
+        List<GUIItemData> items = new ArrayList<>();
+        for (GUIItemData itemData : bound) {
+            if (itemData != null) {
+                items.add(itemData);
+            }
+        }
+        return new GUIMenuData(title, size, items, properties, allowPlayerInventoryClick, fillItem);
+    }
+}
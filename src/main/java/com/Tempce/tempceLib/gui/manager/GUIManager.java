@@ -3,8 +3,10 @@ package com.Tempce.tempceLib.gui.manager;
 import com.Tempce.tempceLib.TempceLib;
 import com.Tempce.tempceLib.api.GUIAPI;
 import com.Tempce.tempceLib.command.data.ArgumentType;
+import com.Tempce.tempceLib.command.data.MaterialCatalog;
 import com.Tempce.tempceLib.gui.data.GUIItemData;
 import com.Tempce.tempceLib.gui.data.GUIMenuData;
+import com.Tempce.tempceLib.gui.data.GUITemplate;
 import com.Tempce.tempceLib.gui.data.MaterialCategory;
 import com.Tempce.tempceLib.gui.manager.handlers.*;
 import com.Tempce.tempceLib.gui.manager.util.GUIItemCreator;
@@ -32,6 +34,9 @@ public class GUIManager implements GUIAPI, Listener {
     private final CommandGUIManager commandGUIManager;
     private final GUIEventHandler eventHandler;
     
+    // 静的なメニューのテンプレート（初回使用時に構築）
+    private GUITemplate confirmationTemplate;
+    
     /**
      * プライベートコンストラクタ（シングルトン）
      */
@@ -268,17 +273,15 @@ public class GUIManager implements GUIAPI, Listener {
         // ページネーション関連データを一時保存
         PaginationManager.PaginationContext context = paginationManager.savePaginationContext(playerId);
         
-        List<GUIItemData> guiItems = new ArrayList<>();
+        List<GUIItemData> dynamicItems = new ArrayList<>(3);
         
         // メッセージ表示
         ItemStack messageItem = GUIItemCreator.createItem(Material.BOOK, ChatColor.YELLOW + "確認",
                 List.of(ChatColor.WHITE + message));
-        guiItems.add(new GUIItemData(messageItem, 4, null));
+        dynamicItems.add(new GUIItemData(messageItem, 4, null));
         
-        // 確認ボタン
-        ItemStack confirmItem = GUIItemCreator.createItem(Material.EMERALD, ChatColor.GREEN + "はい",
-                List.of(ChatColor.GRAY + "クリックして確認"));
-        guiItems.add(new GUIItemData(confirmItem, 2, (guiItemData) -> {
+        // 確認ボタン（表示はテンプレートのアイテムを使用）
+        dynamicItems.add(new GUIItemData(null, 2, (guiItemData) -> {
             // ページネーションデータを復元
             paginationManager.restorePaginationContext(playerId, context);
             
@@ -287,10 +290,8 @@ public class GUIManager implements GUIAPI, Listener {
             onConfirm.run();
         }));
         
-        // キャンセルボタン
-        ItemStack cancelItem = GUIItemCreator.createItem(Material.REDSTONE, ChatColor.RED + "いいえ",
-                List.of(ChatColor.GRAY + "クリックしてキャンセル"));
-        guiItems.add(new GUIItemData(cancelItem, 6, (guiItemData) -> {
+        // キャンセルボタン（表示はテンプレートのアイテムを使用）
+        dynamicItems.add(new GUIItemData(null, 6, (guiItemData) -> {
             // ページネーションデータを復元
             paginationManager.restorePaginationContext(playerId, context);
             
@@ -299,8 +300,22 @@ public class GUIManager implements GUIAPI, Listener {
             onCancel.run();
         }));
         
-        GUIMenuData menuData = new GUIMenuData(title, 9, guiItems);
-        createCustomMenuGUI(player, menuData);
+        createTemplateGUI(player, getConfirmationTemplate(), title, dynamicItems);
+    }
+    
+    /**
+     * 確認ダイアログのテンプレートを取得（初回のみ構築）
+     */
+    private GUITemplate getConfirmationTemplate() {
+        if (confirmationTemplate == null) {
+            List<GUIItemData> guiItems = new ArrayList<>();
+            guiItems.add(new GUIItemData(GUIItemCreator.createItem(Material.EMERALD, ChatColor.GREEN + "はい",
+                    List.of(ChatColor.GRAY + "クリックして確認")), 2, null));
+            guiItems.add(new GUIItemData(GUIItemCreator.createItem(Material.REDSTONE, ChatColor.RED + "いいえ",
+                    List.of(ChatColor.GRAY + "クリックしてキャンセル")), 6, null));
+            confirmationTemplate = GUITemplate.compile(new GUIMenuData("", 9, guiItems));
+        }
+        return confirmationTemplate;
     }
     
     @Override
@@ -311,12 +326,11 @@ public class GUIManager implements GUIAPI, Listener {
         eventHandler.unregisterGUI(playerId);
         
         Inventory inventory = Bukkit.createInventory(null, menuData.getSize(), menuData.getTitle());
+        ItemStack[] contents = new ItemStack[menuData.getSize()];
         
         // Fill itemがある場合は全スロットを埋める
         if (menuData.getFillItem() != null) {
-            for (int i = 0; i < menuData.getSize(); i++) {
-                inventory.setItem(i, menuData.getFillItem());
-            }
+            Arrays.fill(contents, menuData.getFillItem());
         }
         
         // アイテムを配置
@@ -327,11 +341,14 @@ public class GUIManager implements GUIAPI, Listener {
                 if (!itemData.getPermission().isEmpty() && !hasGUIPermission(player, itemData.getPermission())) {
                     continue;
                 }
-                inventory.setItem(itemData.getSlot(), itemData.getItemStack());
+                contents[itemData.getSlot()] = itemData.getItemStack();
                 itemCount++;
             }
         }
         
+        // 組み立てた配列を一括で反映
+        inventory.setContents(contents);
+        
         // データを保存
         eventHandler.registerGUI(playerId, inventory, menuData);
         
@@ -342,6 +359,30 @@ public class GUIManager implements GUIAPI, Listener {
         player.openInventory(inventory);
     }
     
+    @Override
+    public void createTemplateGUI(Player player, GUITemplate template, String title, List<GUIItemData> dynamicItems) {
+        UUID playerId = player.getUniqueId();
+        
+        // 既存のGUIデータを削除
+        eventHandler.unregisterGUI(playerId);
+        
+        String menuTitle = title != null ? title : template.getTitle();
+        Inventory inventory = Bukkit.createInventory(null, template.getSize(), menuTitle);
+        
+        // テンプレートを一括で反映し、プレイヤーごとのスロットを上書き
+        GUIMenuData menuData = template.stamp(inventory, menuTitle, dynamicItems,
+                permission -> hasGUIPermission(player, permission));
+        
+        // データを保存
+        eventHandler.registerGUI(playerId, inventory, menuData);
+        
+        debugLog("テンプレートGUI作成: プレイヤー=" + player.getName() + 
+                ", タイトル=" + menuTitle + ", 動的アイテム数=" + dynamicItems.size());
+        
+        // インベントリを開く
+        player.openInventory(inventory);
+    }
+    
     @Override
     public void createPlayerSelectionGUI(Player player, String title, Consumer<Player> onSelect) {
         playerSelectionManager.createPlayerSelectionGUI(player, title, onSelect, 
@@ -476,17 +517,8 @@ public class GUIManager implements GUIAPI, Listener {
         // MaterialCategoryからArgumentTypeに変換
         ArgumentType argumentType = convertCategoryToArgumentType(category);
         
-        // ArgumentInputGUIManagerのgetItemsByTypeメソッドを使用
-        ArgumentInputGUIManager argumentInputManager = new ArgumentInputGUIManager(null);
-        org.bukkit.Material[] materials = argumentInputManager.getItemsByType(argumentType);
-        
-        // 有効なマテリアルのみをフィルタリング
-        List<org.bukkit.Material> validMaterials = new ArrayList<>();
-        for (org.bukkit.Material material : materials) {
-            if (material.isItem()) {
-                validMaterials.add(material);
-            }
-        }
+        // 共有カタログから有効なマテリアル（アイテムとして扱えるもの）を取得
+        List<org.bukkit.Material> validMaterials = MaterialCatalog.of(argumentType).getItemMaterials();
         
         // GUIItemDataリストを作成
         List<GUIItemData> guiItems = new ArrayList<>();
@@ -43,7 +43,7 @@ public class CommandGUIManager {
         if (permission == null || permission.isEmpty()) {
             return false;
         }
-        return player.hasPermission(permission);
+        return TempceLib.getInstance().getCommandManager().getPermissionCache().hasPermission(player, permission);
     }
     
     /**
@@ -148,10 +148,10 @@ public class CommandGUIManager {
             }
             
             ItemStack subCommandItem = GUIItemCreator.createItem(Material.PAPER, 
-                    ChatColor.AQUA + "/" + commandName + " " + String.join(" ", subCommandData.getPathLevels()),
+                    ChatColor.AQUA + "/" + commandName + " " + subCommandData.getInvocationPath(),
                     lore);
             
-            final String subCommandPath = String.join(".", subCommandData.getPathLevels());
+            final String subCommandPath = subCommandData.getNormalizedPath();
             guiItems.add(new GUIItemData(subCommandItem, slot++, (guiItemData) -> {
                 // 引数があるかチェックして適切な処理を行う
                 if (subCommandData.hasArguments()) {
@@ -165,7 +165,7 @@ public class CommandGUIManager {
                     );
                 } else {
                     // 引数がない場合は直接実行
-                    final String fullCommand = commandName + " " + String.join(" ", subCommandData.getPathLevels());
+                    final String fullCommand = commandName + " " + subCommandData.getInvocationPath();
                     player.closeInventory();
                     player.performCommand(fullCommand);
                 }
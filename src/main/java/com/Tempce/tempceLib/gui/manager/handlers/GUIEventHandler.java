@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * GUIイベント処理を管理するクラス
@@ -50,11 +51,12 @@ public class GUIEventHandler implements Listener {
     
     /**
      * デバッグログを出力
+     * メッセージはデバッグモードが有効な場合のみ組み立てられます
      * @param message メッセージ
      */
-    private void debugLog(String message) {
+    private void debugLog(Supplier<String> message) {
         if (debugMode) {
-            TempceLib.getInstance().getLogger().info("[GUI EVENT DEBUG] " + message);
+            TempceLib.getInstance().getLogger().info("[GUI EVENT DEBUG] " + message.get());
         }
     }
     
@@ -65,6 +67,8 @@ public class GUIEventHandler implements Listener {
      * @param menuData メニューデータ
      */
     public void registerGUI(UUID playerId, Inventory inventory, GUIMenuData menuData) {
+        // クリック処理をスロット番号で引けるよう、登録のたびに現在のアイテムリストから配列を構築
+        menuData.compileSlotIndex();
         openGUIs.put(playerId, inventory);
         guiData.put(playerId, menuData);
     }
@@ -121,50 +125,49 @@ public class GUIEventHandler implements Listener {
         
         GUIMenuData menuData = guiData.get(playerId);
         if (menuData == null) {
-            debugLog("GUIデータが見つかりません: " + playerId);
+            debugLog(() -> "GUIデータが見つかりません: " + playerId);
             return;
         }
         
         int slot = event.getSlot();
         
-        debugLog("GUI クリック検出: プレイヤー=" + player.getName() + 
+        debugLog(() -> "GUI クリック検出: プレイヤー=" + player.getName() + 
                 ", スロット=" + slot + ", アイテム数=" + menuData.getItems().size());
         
-        // アイテムクリック処理
-        for (GUIItemData itemData : menuData.getItems()) {
-            if (itemData.getSlot() == slot) {
-                debugLog("アイテムが見つかりました: スロット=" + slot);
-                
-                // 権限チェック
-                if (!itemData.getPermission().isEmpty() && 
-                    !permissionChecker.apply(player, itemData.getPermission())) {
-                    player.sendMessage(ChatColor.RED + "このアイテムを使用する権限がありません。");
-                    return;
-                }
-                
-                // 有効性チェック
-                if (!itemData.isEnabled()) {
-                    debugLog("アイテムが無効です: スロット=" + slot);
-                    return;
-                }
-                
-                // クリックアクション実行
-                if (itemData.getClickAction() != null) {
-                    debugLog("アクションを実行します: スロット=" + slot);
-                    try {
-                        itemData.getClickAction().accept(itemData);
-                    } catch (Exception e) {
-                        TempceLib.getInstance().getLogger().severe("GUIアクション実行中にエラーが発生しました: " + e.getMessage());
-                        e.printStackTrace();
-                    }
-                } else {
-                    debugLog("アクションが設定されていません: スロット=" + slot);
-                }
-                return;
-            }
+        // スロット番号からアイテムを直接取得
+        GUIItemData itemData = menuData.getItemAt(slot);
+        if (itemData == null) {
+            debugLog(() -> "該当するアイテムが見つかりませんでした: スロット=" + slot);
+            return;
         }
         
-        debugLog("該当するアイテムが見つかりませんでした: スロット=" + slot);
+        debugLog(() -> "アイテムが見つかりました: スロット=" + slot);
+        
+        // 権限チェック
+        if (!itemData.getPermission().isEmpty() && 
+            !permissionChecker.apply(player, itemData.getPermission())) {
+            player.sendMessage(ChatColor.RED + "このアイテムを使用する権限がありません。");
+            return;
+        }
+        
+        // 有効性チェック
+        if (!itemData.isEnabled()) {
+            debugLog(() -> "アイテムが無効です: スロット=" + slot);
+            return;
+        }
+        
+        // クリックアクション実行
+        if (itemData.getClickAction() != null) {
+            debugLog(() -> "アクションを実行します: スロット=" + slot);
+            try {
+                itemData.getClickAction().accept(itemData);
+            } catch (Exception e) {
+                TempceLib.getInstance().getLogger().severe("GUIアクション実行中にエラーが発生しました: " + e.getMessage());
+                e.printStackTrace();
+            }
+        } else {
+            debugLog(() -> "アクションが設定されていません: スロット=" + slot);
+        }
     }
     
     @EventHandler
@@ -180,7 +183,7 @@ public class GUIEventHandler implements Listener {
             
             // 実際に管理しているインベントリが閉じられたかチェック
             if (closedInventory.equals(trackedInventory)) {
-                debugLog("GUI自動クローズ: プレイヤー=" + player.getName());
+                debugLog(() -> "GUI自動クローズ: プレイヤー=" + player.getName());
                 
                 // GUI関連データを削除
                 unregisterGUI(playerId);
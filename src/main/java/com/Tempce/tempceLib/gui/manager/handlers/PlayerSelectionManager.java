@@ -1,5 +1,6 @@
 package com.Tempce.tempceLib.gui.manager.handlers;
 
+import com.Tempce.tempceLib.TempceLib;
 import com.Tempce.tempceLib.gui.data.GUIItemData;
 import com.Tempce.tempceLib.gui.manager.util.GUIItemCreator;
 import org.bukkit.Bukkit;
@@ -47,8 +48,8 @@ public class PlayerSelectionManager {
                                          Consumer<PlayerSelectionGUIData> paginationCreator) {
         List<Player> availablePlayers = new ArrayList<>();
         
-        // オンラインプレイヤーを取得
-        for (Player onlinePlayer : Bukkit.getOnlinePlayers()) {
+        // オンラインプレイヤーを名前順で取得
+        for (Player onlinePlayer : TempceLib.getInstance().getCommandManager().getPlayerNameIndex().getPlayers()) {
             // 権限チェック（nullの場合はフィルタなし）
             if (permission == null || onlinePlayer.hasPermission(permission)) {
                 availablePlayers.add(onlinePlayer);
@@ -0,0 +1,475 @@
+package com.Tempce.tempceLib.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code @Command} が付与されたクラスからコマンドレジストリをコンパイル時に生成するアノテーションプロセッサ
+ * 生成されたレジストリはサブコマンドのハンドラーを直接呼び出すため、実行時のリフレクション走査が不要になります
+ * ライブラリ本体への依存を避けるため、アノテーションは完全修飾名で参照します
+ */
+@SupportedAnnotationTypes(CommandRegistryProcessor.COMMAND_ANNOTATION)
+public class CommandRegistryProcessor extends AbstractProcessor {
+
+    static final String COMMAND_ANNOTATION = "com.Tempce.tempceLib.command.annotations.Command";
+    private static final String SUB_COMMAND_ANNOTATION = "com.Tempce.tempceLib.command.annotations.SubCommand";
+    private static final String ARGUMENTS_ANNOTATION = "com.Tempce.tempceLib.command.annotations.CommandArguments";
+    private static final String COMMAND_SENDER = "org.bukkit.command.CommandSender";
+    private static final String REGISTRY_SUFFIX = "_CommandRegistry";
+
+    private Elements elements;
+    private Types types;
+    private Messager messager;
+    private Filer filer;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.messager = processingEnv.getMessager();
+        this.filer = processingEnv.getFiler();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement commandAnnotation = elements.getTypeElement(COMMAND_ANNOTATION);
+        if (commandAnnotation == null) {
+            return false;
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(commandAnnotation)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            try {
+                generateRegistry((TypeElement) element);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "コマンドレジストリの生成に失敗しました: " + e.getMessage(), element);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * コマンドクラスのレジストリを生成する
+     * 生成できないハンドラーが含まれる場合は警告を出して生成を見送り、実行時のリフレクション走査に任せます
+     */
+    private void generateRegistry(TypeElement commandClass) throws IOException {
+        if (!isAccessibleFromPackage(commandClass)) {
+            messager.printMessage(Diagnostic.Kind.WARNING,
+                "private なクラスのためコマンドレジストリを生成しません（実行時に走査されます）", commandClass);
+            return;
+        }
+
+        List<String> entries = new ArrayList<>();
+        for (Element member : commandClass.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            AnnotationMirror subCommand = findAnnotation(member, SUB_COMMAND_ANNOTATION);
+            if (subCommand == null) {
+                continue;
+            }
+
+            ExecutableElement method = (ExecutableElement) member;
+            if (!hasSenderParameter(method)) {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "サブコマンドメソッド " + method.getSimpleName() + " のパラメータは (CommandSender, String[]) である必要があります", method);
+                return;
+            }
+            List<AnnotationMirror> arguments = argumentMirrors(method);
+            if (!isRawSignature(method)) {
+                String error = checkTypedParameters(method, arguments);
+                if (error != null) {
+                    messager.printMessage(Diagnostic.Kind.ERROR,
+                        "サブコマンドメソッド " + method.getSimpleName() + " の型付き引数が @CommandArguments と一致しません: " + error, method);
+                    return;
+                }
+            }
+            if (method.getModifiers().contains(Modifier.PRIVATE)) {
+                messager.printMessage(Diagnostic.Kind.WARNING,
+                    "private なサブコマンドメソッド " + method.getSimpleName() + " は直接呼び出せないため、このクラスのコマンドレジストリを生成しません（実行時に走査されます）", method);
+                return;
+            }
+
+            entries.add(buildEntry(commandClass, method, subCommand, arguments, entries.size()));
+        }
+
+        writeSource(commandClass, entries);
+    }
+
+    /**
+     * 生成クラスから参照可能か（自身と外側のクラスが private でないか）
+     */
+    private boolean isAccessibleFromPackage(TypeElement type) {
+        Element current = type;
+        while (current instanceof TypeElement) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    /**
+     * 第1パラメータが CommandSender のサブタイプか
+     */
+    private boolean hasSenderParameter(ExecutableElement method) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.isEmpty()) {
+            return false;
+        }
+        TypeElement sender = elements.getTypeElement(COMMAND_SENDER);
+        return sender != null && types.isAssignable(types.erasure(parameters.get(0).asType()), sender.asType());
+    }
+
+    /**
+     * (CommandSender のサブタイプ, String[]) のシグネチャを持つか
+     */
+    private boolean isRawSignature(ExecutableElement method) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.size() != 2) {
+            return false;
+        }
+        TypeMirror second = parameters.get(1).asType();
+        return second.getKind() == TypeKind.ARRAY
+            && types.isSameType(((ArrayType) second).getComponentType(),
+                elements.getTypeElement("java.lang.String").asType());
+    }
+
+    /**
+     * 型付き引数のパラメータ型が引数定義に対応しているかを検証する
+     * @return エラー内容（問題がない場合はnull）
+     */
+    private String checkTypedParameters(ExecutableElement method, List<AnnotationMirror> arguments) {
+        List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.size() - 1 != arguments.size()) {
+            return "引数定義の数 (" + arguments.size() + ") とパラメータの数 (" + (parameters.size() - 1) + ") が一致しません";
+        }
+        TypeMirror stringType = elements.getTypeElement("java.lang.String").asType();
+        for (int i = 0; i < arguments.size(); i++) {
+            TypeMirror parameterType = boxed(types.erasure(parameters.get(i + 1).asType()));
+            if (types.isSameType(parameterType, stringType)) {
+                continue;
+            }
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(arguments.get(i));
+            String argumentType = ((VariableElement) value(values, "type")).getSimpleName().toString();
+            TypeElement valueType = elements.getTypeElement(valueTypeOf(argumentType));
+            if (valueType != null && !types.isAssignable(valueType.asType(), parameterType)) {
+                return "引数 " + value(values, "name") + " (" + argumentType + ") はパラメータ型 " + parameterType +
+                    " に変換できません（" + valueType.getQualifiedName() + " または String を指定してください）";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 引数タイプの変換後の型（ArgumentBinder と同じ対応）
+     */
+    private String valueTypeOf(String argumentType) {
+        switch (argumentType) {
+            case "INTEGER":
+                return "java.lang.Integer";
+            case "DOUBLE":
+            case "COORDINATE_X":
+            case "COORDINATE_Y":
+            case "COORDINATE_Z":
+                return "java.lang.Double";
+            case "BOOLEAN":
+                return "java.lang.Boolean";
+            case "ONLINE_PLAYER":
+                return "org.bukkit.entity.Player";
+            case "ALL_PLAYER":
+                return "org.bukkit.OfflinePlayer";
+            case "WORLD":
+                return "org.bukkit.World";
+            case "ENTITY_ID":
+                return "org.bukkit.entity.EntityType";
+            case "ENCHANTMENT":
+                return "org.bukkit.enchantments.Enchantment";
+            case "POTION_EFFECT":
+                return "org.bukkit.potion.PotionEffectType";
+            case "STRING":
+                return "java.lang.String";
+            default:
+                return argumentType.startsWith("ITEM_ID") ? "org.bukkit.Material" : "java.lang.String";
+        }
+    }
+
+    private TypeMirror boxed(TypeMirror type) {
+        return type.getKind().isPrimitive() ? types.boxedClass(types.getPrimitiveType(type.getKind())).asType() : type;
+    }
+
+    /**
+     * 1サブコマンド分の生成コードを組み立てる
+     */
+    private String buildEntry(TypeElement commandClass, ExecutableElement method, AnnotationMirror subCommand,
+                              List<AnnotationMirror> arguments, int index) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(subCommand);
+
+        String path = (String) value(values, "path");
+        if (path.isEmpty()) {
+            path = method.getSimpleName().toString().toLowerCase();
+        }
+
+        // ハンドラー呼び出し（第1引数が CommandSender のサブタイプの場合はキャストする）
+        String senderType = types.erasure(method.getParameters().get(0).asType()).toString();
+        String senderExpr = COMMAND_SENDER.equals(senderType) ? "sender" : "(" + senderType + ") sender";
+        String target = method.getModifiers().contains(Modifier.STATIC)
+            ? commandClass.getQualifiedName().toString()
+            : "command";
+        String argumentsVar = "arguments" + index;
+        String invoker;
+        String binder = null;
+        if (isRawSignature(method)) {
+            invoker = "(sender, args) -> " + target + "." + method.getSimpleName() + "(" + senderExpr + ", args)";
+        } else {
+            // 型付き引数: 変換済みの値をパラメータ型にキャストして渡す
+            List<? extends VariableElement> parameters = method.getParameters();
+            StringBuilder parameterTypes = new StringBuilder();
+            StringBuilder call = new StringBuilder(target + "." + method.getSimpleName() + "(" + senderExpr);
+            for (int i = 1; i < parameters.size(); i++) {
+                TypeMirror parameterType = types.erasure(parameters.get(i).asType());
+                parameterTypes.append(i > 1 ? ", " : "").append(parameterType).append(".class");
+                call.append(", (").append(boxed(parameterType)).append(") values[").append(i - 1).append("]");
+            }
+            call.append(")");
+            invoker = "null";
+            binder = "new ArgumentBinder(" + argumentsVar + ", new Class<?>[] {" + parameterTypes + "},\n" +
+                "                (sender, values) -> " + call + ")";
+        }
+
+        StringBuilder entry = new StringBuilder();
+        entry.append("        List<ArgumentData> ").append(argumentsVar).append(" = ").append(argumentList(arguments)).append(";\n")
+             .append("        subCommands.add(new SubCommandData(\n")
+             .append("            ").append(literal(path)).append(",\n")
+             .append("            ").append(literal((String) value(values, "permission"))).append(",\n")
+             .append("            ").append(stringList(value(values, "alias"))).append(",\n")
+             .append("            ").append(value(values, "timeout")).append(",\n")
+             .append("            ").append(literal((String) value(values, "description"))).append(",\n")
+             .append("            ").append(literal((String) value(values, "usage"))).append(",\n")
+             .append("            ").append(value(values, "playerOnly")).append(",\n")
+             .append("            null,\n")
+             .append("            command,\n")
+             .append("            ").append(argumentsVar).append(",\n")
+             .append("            ").append(invoker).append(",\n")
+             .append("            commandName");
+        if (binder != null) {
+            entry.append(",\n            ").append(binder);
+        }
+        entry.append("\n        ));\n");
+        return entry.toString();
+    }
+
+    /**
+     * {@code @CommandArguments} の各引数定義を取得する
+     */
+    private List<AnnotationMirror> argumentMirrors(ExecutableElement method) {
+        List<AnnotationMirror> mirrors = new ArrayList<>();
+        AnnotationMirror arguments = findAnnotation(method, ARGUMENTS_ANNOTATION);
+        if (arguments != null) {
+            for (Object argument : (List<?>) value(elements.getElementValuesWithDefaults(arguments), "value")) {
+                mirrors.add((AnnotationMirror) ((AnnotationValue) argument).getValue());
+            }
+        }
+        return mirrors;
+    }
+
+    /**
+     * 引数定義から ArgumentData のリスト生成式を組み立てる
+     */
+    private String argumentList(List<AnnotationMirror> arguments) {
+        if (arguments.isEmpty()) {
+            return "new ArrayList<>()";
+        }
+
+        StringBuilder list = new StringBuilder("new ArrayList<>(Arrays.asList(");
+        for (int i = 0; i < arguments.size(); i++) {
+            AnnotationMirror argument = arguments.get(i);
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(argument);
+            VariableElement type = (VariableElement) value(values, "type");
+
+            list.append(i == 0 ? "\n" : ",\n")
+                .append("            new ArgumentData(")
+                .append(literal((String) value(values, "name"))).append(", ")
+                .append("ArgumentType.").append(type.getSimpleName()).append(", ")
+                .append(literal((String) value(values, "description"))).append(", ")
+                .append(value(values, "required")).append(", ")
+                .append(literal((String) value(values, "defaultValue"))).append(", ")
+                .append(stringList(value(values, "suggestions"))).append(", ")
+                .append(doubleLiteral((Double) value(values, "min"))).append(", ")
+                .append(doubleLiteral((Double) value(values, "max")));
+            // 補完候補プロバイダーは指定された場合のみ渡す
+            Object provider = optionalValue(values, "provider");
+            if (provider instanceof String && !((String) provider).isEmpty()) {
+                list.append(", ").append(literal((String) provider));
+            }
+            list.append(")");
+        }
+        return list.append("\n        ))").toString();
+    }
+
+    /**
+     * 生成クラスのソースを書き出す
+     */
+    private void writeSource(TypeElement commandClass, List<String> entries) throws IOException {
+        PackageElement packageElement = elements.getPackageOf(commandClass);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(commandClass).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + REGISTRY_SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String commandType = types.erasure(commandClass.asType()).toString();
+
+        JavaFileObject file = filer.createSourceFile(qualifiedName, commandClass);
+        try (Writer writer = file.openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("import com.Tempce.tempceLib.command.data.ArgumentData;\n");
+            writer.write("import com.Tempce.tempceLib.command.data.ArgumentType;\n");
+            writer.write("import com.Tempce.tempceLib.command.data.SubCommandData;\n");
+            writer.write("import com.Tempce.tempceLib.command.executor.ArgumentBinder;\n");
+            writer.write("import com.Tempce.tempceLib.command.registry.GeneratedCommandRegistry;\n\n");
+            writer.write("import java.util.ArrayList;\n");
+            writer.write("import java.util.Arrays;\n");
+            writer.write("import java.util.List;\n\n");
+            writer.write("/**\n * " + commandType + " のコマンドレジストリ（tempcelib-processor により自動生成）\n */\n");
+            writer.write("public final class " + simpleName + " implements GeneratedCommandRegistry {\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public Class<?> getCommandClass() {\n");
+            writer.write("        return " + commandType + ".class;\n");
+            writer.write("    }\n\n");
+            writer.write("    @Override\n");
+            writer.write("    public List<SubCommandData> createSubCommands(String commandName, Object instance) {\n");
+            writer.write("        " + commandType + " command = (" + commandType + ") instance;\n");
+            writer.write("        List<SubCommandData> subCommands = new ArrayList<>();\n");
+            for (String entry : entries) {
+                writer.write(entry);
+            }
+            writer.write("        return subCommands;\n");
+            writer.write("    }\n");
+            writer.write("}\n");
+        }
+    }
+
+    /**
+     * 要素に付与されたアノテーションを完全修飾名で検索する
+     */
+    private AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private Object value(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalStateException("アノテーション属性が見つかりません: " + name);
+    }
+
+    /**
+     * 古いバージョンのアノテーションに存在しない属性を読み取る
+     * @return 属性値（属性が存在しない場合はnull）
+     */
+    private Object optionalValue(Map<? extends ExecutableElement, ? extends AnnotationValue> values, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private String stringList(Object annotationValue) {
+        List<?> items = (List<?>) annotationValue;
+        if (items.isEmpty()) {
+            return "new ArrayList<>()";
+        }
+        StringBuilder list = new StringBuilder("Arrays.asList(");
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                list.append(", ");
+            }
+            list.append(literal((String) ((AnnotationValue) items.get(i)).getValue()));
+        }
+        return list.append(")").toString();
+    }
+
+    private String doubleLiteral(double value) {
+        if (value == Double.MIN_VALUE) {
+            return "Double.MIN_VALUE";
+        }
+        if (value == Double.MAX_VALUE) {
+            return "Double.MAX_VALUE";
+        }
+        if (Double.isNaN(value)) {
+            return "Double.NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+        }
+        return value + "d";
+    }
+
+    private String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"': literal.append("\\\""); break;
+                case '\\': literal.append("\\\\"); break;
+                case '\n': literal.append("\\n"); break;
+                case '\r': literal.append("\\r"); break;
+                case '\t': literal.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append("\"").toString();
+    }
+}